@@ -14,6 +14,7 @@ import com.badlogic.gdx.graphics.Texture;
 abstract class Entity extends GameObject implements Damageable, Movable {
     private int health;
     private final double movementRange;
+    private final int movementRangeSquared;
     private final boolean attackRange;
 
     /**
@@ -30,6 +31,7 @@ abstract class Entity extends GameObject implements Damageable, Movable {
         super(x, y, texture);
         this.health = health;
         this.movementRange = movementRange;
+        movementRangeSquared = (int) Math.floor(movementRange * movementRange);
         this.attackRange = attackRange;
     }
 
@@ -68,6 +70,18 @@ abstract class Entity extends GameObject implements Damageable, Movable {
         return movementRange;
     }
 
+    /**
+     * getMovementRangeSquared
+     * Returns the square of the movement range, rounded down, to compare with squared distances.
+     * A squared distance between tiles is a whole number, so comparing it with the rounded square
+     * gives the same answer as comparing the distance with the range.
+     *
+     * @return the movement range, squared
+     */
+    public int getMovementRangeSquared() {
+        return movementRangeSquared;
+    }
+
     /**
      * damageTaken
      * This method is used to take away a certain damage caused by {@code attack} method from {@code Attackable}
@@ -37,6 +37,7 @@ public class Game extends ApplicationAdapter {
 
     int windowWidth, windowHeight, size, tileSize, halfHeight;
     SpriteBatch batch;
+    ShapeRenderer shapeRenderer;
     Texture background;
 
     //Game variables
@@ -52,6 +53,8 @@ public class Game extends ApplicationAdapter {
     List<Vital> vitalList;
     List<SpawnTile> spawnList = new List<>();
     BitmapFont font;
+    long seed;//printed when the game starts, see random
+    Random random;//every random decision of the game comes from here
 
     @Override
     public void create() {
@@ -60,8 +63,13 @@ public class Game extends ApplicationAdapter {
         halfHeight = windowHeight / 2;
         font = new BitmapFont();
         batch = new SpriteBatch();
+        shapeRenderer = new ShapeRenderer();
+        shapeRenderer.setAutoShapeType(true);
         background = new Texture(Gdx.files.internal("Board2.png"));
 
+        seed = System.nanoTime();
+        random = new Random(seed);
+        System.out.println("Seed: " + seed);
         size = 8;
         board = new GameObject[size][size];
         tileSize = 64;
@@ -156,20 +164,18 @@ public class Game extends ApplicationAdapter {
     @Override
     public void dispose() {
         batch.dispose();
+        shapeRenderer.dispose();
     }
 
     public void drawBoard(SpriteBatch batch) {
-
-        ShapeRenderer shapeRenderer = new ShapeRenderer();
-        shapeRenderer.setAutoShapeType(true);
         //shapeRenderer.begin();
 
         batch.begin();
         batch.draw(background, 50, halfHeight-422, background.getWidth()*4, background.getHeight()*4);
         batch.end();
 
-        for (int i = 0; i < 8; i++) {
-            for (int j = 0; j < 8; j++) {
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
                 Vector2[] points = {cartToIso(new Vector2(j * tileSize, i * tileSize)),
                       cartToIso(new Vector2(j * tileSize + tileSize, i * tileSize)),
                       cartToIso(new Vector2(j * tileSize + tileSize, i * tileSize + tileSize)),
@@ -239,7 +245,6 @@ public class Game extends ApplicationAdapter {
      * right now method will generate maxEnemyNum - number of enemies on board
      */
     private void generateEnemySpawns(SpriteBatch batch) {
-        Random rand = new Random();
         int maxEnemyNum = 4;
         int generate;
         int x, y;
@@ -247,11 +252,11 @@ public class Game extends ApplicationAdapter {
         for (int i = 0; i < maxEnemyNum - enemyList.size(); i++) {
             SpawnTile temp = null;
             do {
-                x = rand.nextInt(8);
-                y = rand.nextInt(8);
+                x = random.nextInt(size);
+                y = random.nextInt(size);
             } while (board[y][x] != null);
 
-            generate = rand.nextInt(3);
+            generate = random.nextInt(3);
 
             if(generate == 0) {
                 temp = new SpawnTile(x, y, new EnemyWarrior(x, y, 3, 5, false, 3, 3));
@@ -296,7 +301,7 @@ public class Game extends ApplicationAdapter {
 
                 if (closestObject == null) {
                     closestObject = player;
-                } else if (distance(player.getCoordinate(), enemy.getCoordinate()) < distance(closestObject.getCoordinate(), enemy.getCoordinate())) {
+                } else if (distanceSquared(player, enemy) < distanceSquared(closestObject, enemy)) {
                     closestObject = player;
                 }
             }
@@ -308,7 +313,7 @@ public class Game extends ApplicationAdapter {
 
                 if (closestObject == null) {
                     closestObject = vital;
-                } else if (distance(vital.getCoordinate(), enemy.getCoordinate()) < distance(closestObject.getCoordinate(), enemy.getCoordinate())) {
+                } else if (distanceSquared(vital, enemy) < distanceSquared(closestObject, enemy)) {
                     closestObject = vital;
                 }
             }
@@ -317,8 +322,7 @@ public class Game extends ApplicationAdapter {
             //Section
             //This section will move the enemy
             if (!options.isEmpty()) {
-                Random rand = new Random();
-                Point[] option = options.get(rand.nextInt(options.size()));
+                Point[] option = options.get(random.nextInt(options.size()));
 
                 board[enemy.getY()][enemy.getX()] = null;//makes prev position null
                 enemy.move(option[0].getX(), option[0].getY());//changes x and y THERE IS AN ERROR HERE IDK WHY BUT LOIEK WE GO FIC LSOL
@@ -333,10 +337,7 @@ public class Game extends ApplicationAdapter {
                 enemy.move(moveTo.getX(), moveTo.getY());//changes x and y
                 board[moveTo.getY()][moveTo.getX()] = enemy;//changes position on the game board
 
-                if (enemy.getX() == closestObject.getX() && Math.abs(enemy.getY() - closestObject.getY()) == 1) {
-                    enemy.setAttack(closestObject.getCoordinate());
-                    System.out.println("enemy at " + enemy.getCoordinate().toString() + " will attack " + enemy.getAttack().toString());
-                } else if (enemy.getY() == closestObject.getY() && Math.abs(enemy.getX() - closestObject.getX()) == 1) {
+                if (Math.abs(enemy.getX() - closestObject.getX()) + Math.abs(enemy.getY() - closestObject.getY()) == 1) {
                     enemy.setAttack(closestObject.getCoordinate());
                     System.out.println("enemy at " + enemy.getCoordinate().toString() + " will attack " + enemy.getAttack().toString());
                 } else {
@@ -347,15 +348,30 @@ public class Game extends ApplicationAdapter {
     }
 
     /**
-     * distance
-     * This helper checks the distance between object a and object b.
+     * distanceSquared
+     * This helper gets the square of the distance between object a and object b.
+     * Squares compare the same way as distances, without taking a square root.
      *
      * @param a first object
      * @param b second object
-     * @return distance between a and b, stored in double
+     * @return the distance between a and b, squared
+     */
+    private static int distanceSquared(GameObject a, GameObject b) {
+        return distanceSquared(a.getX(), a.getY(), b.getX(), b.getY());
+    }
+
+    /**
+     * distanceSquared
+     * This helper gets the square of the distance between two tiles.
+     *
+     * @param x1 the x coordinate of the first tile
+     * @param y1 the y coordinate of the first tile
+     * @param x2 the x coordinate of the second tile
+     * @param y2 the y coordinate of the second tile
+     * @return the distance between the tiles, squared
      */
-    private double distance(Point a, Point b) {
-        return Math.sqrt(Math.pow(a.getX() - b.getX(), 2) + Math.pow(a.getY() - b.getY(), 2));
+    private static int distanceSquared(int x1, int y1, int x2, int y2) {
+        return (x1 - x2) * (x1 - x2) + (y1 - y2) * (y1 - y2);
     }
 
     /**
@@ -374,7 +390,8 @@ public class Game extends ApplicationAdapter {
         if (Math.abs(enemy.getX() - object.getX()) <= enemy.getMovementRange()) {//NULL ERROR HERE, MAYBE OBJECT GETS DESTROYED
             moveToX = object.getX();
 
-            int yDisplacement = (int) Math.sqrt(Math.pow(enemy.getMovementRange(), 2) - Math.pow(enemy.getX() - object.getX(), 2));
+            int dx = enemy.getX() - object.getX();
+            int yDisplacement = (int) Math.sqrt(enemy.getMovementRangeSquared() - dx * dx);
             //if enemy is below object, enemy moves up
             if (enemy.getY() < object.getY()) {
                 moveToY = enemy.getY() + yDisplacement;
@@ -388,7 +405,8 @@ public class Game extends ApplicationAdapter {
         if (Math.abs(enemy.getY() - object.getY()) <= enemy.getMovementRange()) {
             moveToY = object.getY();
 
-            int xDisplacement = (int) Math.sqrt(Math.pow(enemy.getMovementRange(), 2) - Math.pow(enemy.getY() - object.getY(), 2));
+            int dy = enemy.getY() - object.getY();
+            int xDisplacement = (int) Math.sqrt(enemy.getMovementRangeSquared() - dy * dy);
             //if enemy is to the left of object, enemy moves right
             if (enemy.getX() < object.getX()) {
                 moveToX = enemy.getX() + xDisplacement;
@@ -399,7 +417,7 @@ public class Game extends ApplicationAdapter {
         }
 
         //x and y are both out of range, enemy has to move furthest diagonally
-        int distance = (int) Math.sqrt(Math.pow(enemy.getMovementRange(), 2) / 2);
+        int distance = (int) Math.sqrt(enemy.getMovementRangeSquared() / 2.0);
 
         //determine direction
         if (enemy.getX() < object.getX() && enemy.getY() < object.getY()) {
@@ -437,34 +455,33 @@ public class Game extends ApplicationAdapter {
 
         point[1] = object.getCoordinate();
         if (!enemy.getAttackRange()) {//melee attacker
-            double distance, shortestDistance = 100;
-            Point coord;
+            int distance, shortestDistance = Integer.MAX_VALUE;
             //for loop to check directly adjacent tiles instead of multiple if statements
-            if ((xO + 1 < size) && (board[yO][xO + 1] == null) && (distance = distance(enemyCord, coord = new Point(xO + 1, yO))) <= enemy.getMovementRange()) {
+            if ((xO + 1 < size) && (board[yO][xO + 1] == null) && (distance = distanceSquared(enemy.getX(), enemy.getY(), xO + 1, yO)) <= enemy.getMovementRangeSquared()) {
                 if (point[0] == null) {
                     shortestDistance = distance;
                     point[0] = new Point(xO + 1, yO);
                 }
             }
-            if ((xO - 1 > -1) && (board[yO][xO - 1] == null) && (distance = distance(enemyCord, coord = new Point(xO - 1, yO))) <= enemy.getMovementRange()) {
+            if ((xO - 1 > -1) && (board[yO][xO - 1] == null) && (distance = distanceSquared(enemy.getX(), enemy.getY(), xO - 1, yO)) <= enemy.getMovementRangeSquared()) {
                 if (point[0] == null || distance < shortestDistance) {
                     shortestDistance = distance;
                     point[0] = new Point(xO - 1, yO);
                 }
             }
-            if ((yO + 1 < size) && (board[yO + 1][xO] == null) && (distance = distance(enemyCord, coord = new Point(xO, yO + 1))) <= enemy.getMovementRange()) {
+            if ((yO + 1 < size) && (board[yO + 1][xO] == null) && (distance = distanceSquared(enemy.getX(), enemy.getY(), xO, yO + 1)) <= enemy.getMovementRangeSquared()) {
                 if (point[0] == null || distance < shortestDistance) {
                     shortestDistance = distance;
                     point[0] = new Point(xO, yO + 1);
                 }
             }
-            if ((yO - 1 > -1) && (board[yO - 1][xO] == null) && (distance = distance(enemyCord, coord = new Point(xO, yO - 1))) <= enemy.getMovementRange()) {
+            if ((yO - 1 > -1) && (board[yO - 1][xO] == null) && (distance = distanceSquared(enemy.getX(), enemy.getY(), xO, yO - 1)) <= enemy.getMovementRangeSquared()) {
                 if (point[0] == null || distance < shortestDistance) {
                     point[0] = new Point(xO, yO - 1);
                 }
             }
             //if enemy is at adjacent tile
-            if ((Math.abs(enemyCord.getX() - xO) == 1 && enemyCord.getY() == yO) || (Math.abs(enemyCord.getY() - yO) == 1 && enemyCord.getX() == xO)) {
+            if (Math.abs(enemy.getX() - xO) + Math.abs(enemy.getY() - yO) == 1) {
                 point[0] = new Point(enemy.getX(), enemy.getY());
             }
             return point;
@@ -475,10 +492,10 @@ public class Game extends ApplicationAdapter {
             }
 
             for (int i = 0; i < size; i++) {
-                if ((board[yO][i] == null) && (distance(enemyCord, new Point(i, yO)) <= enemy.getMovementRange())) {//horizontal axis
+                if ((board[yO][i] == null) && distanceSquared(enemy.getX(), enemy.getY(), i, yO) <= enemy.getMovementRangeSquared()) {//horizontal axis
                     point[0] = new Point(i, yO);
                     return point;
-                } else if ((board[i][xO] == null) && (distance(enemyCord, new Point(xO, i)) <= enemy.getMovementRange())) {//vertical axis
+                } else if ((board[i][xO] == null) && distanceSquared(enemy.getX(), enemy.getY(), xO, i) <= enemy.getMovementRangeSquared()) {//vertical axis
                     point[0] = new Point(xO, i);
                     return point;
                 }
@@ -637,7 +654,7 @@ public class Game extends ApplicationAdapter {
         }
 
         if (!player.getAttackRange()) {//melee
-            if (!((Math.abs(player.getX() - x)) <= 1 && Math.abs(player.getY() - y) <= 1)) {
+            if (Math.max(Math.abs(player.getX() - x), Math.abs(player.getY() - y)) > 1) {
                 System.out.println("out of range");
                 return;
             }
@@ -693,7 +710,7 @@ public class Game extends ApplicationAdapter {
             return;
         }
 
-        if (Math.sqrt(Math.pow(x - unit.getX(), 2) + Math.pow(y - unit.getY(), 2)) > unit.getMovementRange()) {
+        if (distanceSquared(x, y, unit.getX(), unit.getY()) > unit.getMovementRangeSquared()) {
             System.out.println("Out of movement range");
             return;
         }
@@ -847,12 +864,11 @@ public class Game extends ApplicationAdapter {
      * @see Obstacle
      */
     private void generateKillTiles(int killTileNum) {
-        Random random = new Random();
         int x, y;
         for (int i = 0; i < killTileNum; i++) {
             do {
-                x = random.nextInt(8);
-                y = random.nextInt(8);
+                x = random.nextInt(size);
+                y = random.nextInt(size);
             } while (board[y][x] != null);
             board[y][x] = new KillTile(x, y);
         }
@@ -866,25 +882,23 @@ public class Game extends ApplicationAdapter {
      * @see Obstacle
      */
     private void generateObstacles(int obstructionNum) {
-        Random random = new Random();
         int x, y;
         for (int i = 0; i < obstructionNum; i++) {
             do {
-                x = random.nextInt(8);
-                y = random.nextInt(8);
+                x = random.nextInt(size);
+                y = random.nextInt(size);
             } while (board[y][x] != null);
             board[y][x] = new Obstruction(x, y, 3);
         }
     }
 
     private List<Vital> generateVitals(int vitalNum) {
-        Random random = new Random();
         int x, y;
         List<Vital> vitalList = new List<>();
         for (int i = 0; i < vitalNum; i++) {
             do {
-                x = random.nextInt(8);
-                y = random.nextInt(8);
+                x = random.nextInt(size);
+                y = random.nextInt(size);
             } while (board[y][x] != null);
             Vital vital = new Vital(x, y, 2);
             board[y][x] = vital;
@@ -903,13 +917,12 @@ public class Game extends ApplicationAdapter {
      * @see Enemy
      */
     private List<Enemy> generateEnemy(int enemyNum) {
-        Random random = new Random();
         List<Enemy> enemyList = new List<>();
         int x, y;
         for (int i = 0; i < enemyNum; i++) {
             do {
-                x = random.nextInt(8);
-                y = random.nextInt(8);
+                x = random.nextInt(size);
+                y = random.nextInt(size);
             } while (board[y][x] != null);
             //TEMPORARY, this is just to add an artillery enemy
             if (i == 2) {
@@ -1,24 +1,23 @@
 package com.summative.game.list;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 public class List<E> implements Iterable<E> {
     private Node<E> head;
+    private Node<E> tail;
 
     int size;
 
     public void add(E item) {
         size++;
+        Node<E> node = new Node<>(item);
         if (head == null) {
-            head = new Node<>(item);
-            return;
-        }
-
-        Node<E> tempNode = head;
-        while (tempNode.getNext() != null) {
-            tempNode = tempNode.getNext();
+            head = node;
+        } else {
+            tail.setNext(node);
         }
-        tempNode.setNext(new Node<>(item));//, tempNode));
+        tail = node;
     }
 
     public E get(int index) {
@@ -50,9 +49,8 @@ public class List<E> implements Iterable<E> {
             return;
         }
 
-        size--;
         if (index == 0) {
-            head = head.getNext();
+            unlink(null, head);
             return;
         }
 
@@ -60,7 +58,19 @@ public class List<E> implements Iterable<E> {
         for (int i = 0; i < index - 1; i++) {
             tempNode = tempNode.getNext();
         }
-        tempNode.setNext(tempNode.getNext().getNext());
+        unlink(tempNode, tempNode.getNext());
+    }
+
+    private void unlink(Node<E> previous, Node<E> node) {
+        size--;
+        if (previous == null) {
+            head = node.getNext();
+        } else {
+            previous.setNext(node.getNext());
+        }
+        if (node == tail) {
+            tail = previous;
+        }
     }
 
     public boolean remove(E item) {
@@ -75,6 +85,7 @@ public class List<E> implements Iterable<E> {
 
     public void clear() {
         head = null;
+        tail = null;
         size = 0;
     }
 
@@ -92,16 +103,35 @@ public class List<E> implements Iterable<E> {
     }
 
     class ListIterator implements Iterator<E> {
-        private int index = 0;
+        private Node<E> next = head;
+        private Node<E> current;
+        private Node<E> previous;//node before current, used to unlink it
 
         @Override
         public boolean hasNext() {
-            return index < size;
+            return next != null;
         }
 
         @Override
         public E next() {
-            return get(index++);
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            if (current != null) {
+                previous = current;
+            }
+            current = next;
+            next = next.getNext();
+            return current.getItem();
+        }
+
+        @Override
+        public void remove() {
+            if (current == null) {
+                throw new IllegalStateException();
+            }
+            unlink(previous, current);
+            current = null;
         }
     }
 
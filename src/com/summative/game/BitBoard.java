@@ -0,0 +1,219 @@
+package com.summative.game;
+
+import java.util.Arrays;
+
+/**
+ * [BitBoard.java]
+ * One bit for every tile of the board, for example whether the tile holds an enemy.
+ * Each row starts on a new {@code long}, so a row of 8 tiles is one word and a row of 512 tiles is 8 words.
+ * Questions about a stretch of a row, such as whether it has an empty tile, are answered a word at a time
+ * instead of one tile at a time.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ * @see GameState
+ */
+class BitBoard {
+
+    private final int size;
+    private final int wordsPerRow;
+    private final long[] words;
+
+    /**
+     * BitBoard Constructor
+     * Creates a board with no bits set
+     *
+     * @param size the number of tiles on each side of the board
+     */
+    BitBoard(int size) {
+        this.size = size;
+        wordsPerRow = (size + 63) >>> 6;
+        words = new long[wordsPerRow * size];
+    }
+
+    /**
+     * get
+     * Checks the bit of a tile
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return true if the bit is set, false otherwise or if the tile is off the board
+     */
+    boolean get(int x, int y) {
+        if (x < 0 || y < 0 || x >= size || y >= size) {
+            return false;
+        }
+        return (words[y * wordsPerRow + (x >>> 6)] & (1L << x)) != 0;
+    }
+
+    /**
+     * set
+     * Sets the bit of a tile
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     */
+    void set(int x, int y) {
+        words[y * wordsPerRow + (x >>> 6)] |= 1L << x;//shifts only use the low 6 bits of x
+    }
+
+    /**
+     * clear
+     * Clears the bit of a tile
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     */
+    void clear(int x, int y) {
+        words[y * wordsPerRow + (x >>> 6)] &= ~(1L << x);
+    }
+
+    /**
+     * clear
+     * Clears every bit
+     */
+    void clear() {
+        Arrays.fill(words, 0L);
+    }
+
+    /**
+     * count
+     * Counts the bits that are set
+     *
+     * @return the number of tiles with their bit set
+     */
+    int count() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * anyAdjacent
+     * Checks if any of the four tiles next to a tile has its bit set
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return true if a neighbour has its bit set, false otherwise
+     */
+    boolean anyAdjacent(int x, int y) {
+        return get(x - 1, y) || get(x + 1, y) || get(x, y - 1) || get(x, y + 1);
+    }
+
+    /**
+     * firstInRow
+     * Finds the first tile of a stretch of a row that has its bit set
+     *
+     * @param y    the row
+     * @param from the first x coordinate of the stretch
+     * @param to   the last x coordinate of the stretch
+     * @return the x coordinate of the tile, or -1 if no tile in the stretch has its bit set
+     */
+    int firstInRow(int y, int from, int to) {
+        return scanRow(y, from, to, 0L);
+    }
+
+    /**
+     * firstClearInRow
+     * Finds the first tile of a stretch of a row that does not have its bit set
+     *
+     * @param y    the row
+     * @param from the first x coordinate of the stretch
+     * @param to   the last x coordinate of the stretch
+     * @return the x coordinate of the tile, or -1 if every tile in the stretch has its bit set
+     */
+    int firstClearInRow(int y, int from, int to) {
+        return scanRow(y, from, to, -1L);
+    }
+
+    /**
+     * firstInColumn
+     * Finds the first tile of a stretch of a column that has its bit set
+     *
+     * @param x    the column
+     * @param from the first y coordinate of the stretch
+     * @param to   the last y coordinate of the stretch
+     * @return the y coordinate of the tile, or -1 if no tile in the stretch has its bit set
+     */
+    int firstInColumn(int x, int from, int to) {
+        return scanColumn(x, from, to, true);
+    }
+
+    /**
+     * firstClearInColumn
+     * Finds the first tile of a stretch of a column that does not have its bit set
+     *
+     * @param x    the column
+     * @param from the first y coordinate of the stretch
+     * @param to   the last y coordinate of the stretch
+     * @return the y coordinate of the tile, or -1 if every tile in the stretch has its bit set
+     */
+    int firstClearInColumn(int x, int from, int to) {
+        return scanColumn(x, from, to, false);
+    }
+
+    /**
+     * scanColumn
+     * Finds the first tile of a stretch of a column whose bit has a given value.
+     * Columns cross one word per row, so this tests one bit per row.
+     *
+     * @param x    the column
+     * @param from the first y coordinate of the stretch
+     * @param to   the last y coordinate of the stretch
+     * @param set  true to look for a set bit, false to look for a clear bit
+     * @return the y coordinate of the tile, or -1 if there is none
+     */
+    private int scanColumn(int x, int from, int to, boolean set) {
+        if (x < 0 || x >= size) {
+            return -1;
+        }
+        from = Math.max(from, 0);
+        to = Math.min(to, size - 1);
+        int word = x >>> 6;
+        long bit = 1L << x;
+        for (int y = from; y <= to; y++) {
+            if (((words[y * wordsPerRow + word] & bit) != 0) == set) {
+                return y;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * scanRow
+     * Finds the first tile of a stretch of a row whose bit is different from a given value
+     *
+     * @param y      the row
+     * @param from   the first x coordinate of the stretch
+     * @param to     the last x coordinate of the stretch
+     * @param invert 0 to look for a set bit, all ones to look for a clear bit
+     * @return the x coordinate of the tile, or -1 if there is none
+     */
+    private int scanRow(int y, int from, int to, long invert) {
+        if (y < 0 || y >= size) {
+            return -1;
+        }
+        from = Math.max(from, 0);
+        to = Math.min(to, size - 1);
+        if (from > to) {
+            return -1;
+        }
+        int row = y * wordsPerRow;
+        for (int w = from >>> 6; w <= to >>> 6; w++) {
+            long word = words[row + w] ^ invert;
+            if (w == from >>> 6) {
+                word &= -1L << from;//drop the tiles before the stretch
+            }
+            if (w == to >>> 6) {
+                word &= -1L >>> (63 - (to & 63));//drop the tiles after the stretch
+            }
+            if (word != 0) {
+                return (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,104 @@
+package com.summative.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+
+/**
+ * [BoardLayer.java]
+ * The static layer of the board: the background and the outline of every tile.
+ * Nothing on this layer changes during a game, so it is rendered once into an offscreen frame buffer
+ * (through a {@link FrameCache}) and drawn on every frame as a single quad. It is only rendered again after the window is resized.
+ * Only the outlines of the tiles in the window are drawn, so the cost does not grow with the size of the board.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ */
+class BoardLayer {
+
+    private final TextureRegion background;
+    private final TileGeometry geometry;
+    private final FrameCache cache = new FrameCache();
+    private boolean valid = false;
+
+    /**
+     * BoardLayer Constructor
+     *
+     * @param background the background sprite of the board
+     * @param geometry   the geometry of the tiles
+     */
+    BoardLayer(TextureRegion background, TileGeometry geometry) {
+        this.background = background;
+        this.geometry = geometry;
+    }
+
+    /**
+     * invalidate
+     * Marks the layer to be rendered again the next time it is drawn.
+     * This must be called when the window is resized.
+     */
+    void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * update
+     * Renders the layer into the frame buffer if it is not up to date.
+     * This must be called outside of {@code begin()} and {@code end()} of the batch.
+     *
+     * @param batch         the batch to draw the background with
+     * @param shapeRenderer the shape renderer to draw the outlines with
+     * @param width         the width of the window
+     * @param height        the height of the window
+     */
+    void update(SpriteBatch batch, ShapeRenderer shapeRenderer, int width, int height) {
+        if (valid) {
+            return;
+        }
+
+        cache.begin(width, height);
+        Gdx.gl.glClearColor(1, 0, 1, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        batch.begin();
+        batch.draw(background, 50, height / 2 - 422, background.getRegionWidth() * 4, background.getRegionHeight() * 4);
+        batch.end();
+
+        float[] vertices = geometry.getVertices();
+        shapeRenderer.begin();
+        shapeRenderer.set(ShapeRenderer.ShapeType.Line);
+        shapeRenderer.setColor(0, 0, 0, 1);
+        for (int col = 0; col < geometry.getSize(); col++) {
+            for (int row = geometry.firstVisibleRow(col); row <= geometry.lastVisibleRow(col); row++) {
+                shapeRenderer.polygon(vertices, geometry.index(row, col) * TileGeometry.VERTICES, TileGeometry.VERTICES);
+            }
+        }
+        shapeRenderer.end();
+        cache.end();
+
+        valid = true;
+    }
+
+    /**
+     * draw
+     * Draws the layer over the whole window as one quad.
+     * This must be called between {@code begin()} and {@code end()} of the batch.
+     *
+     * @param batch the batch to draw with
+     */
+    void draw(SpriteBatch batch) {
+        cache.draw(batch);
+    }
+
+    /**
+     * dispose
+     * Disposes the frame buffer.
+     */
+    void dispose() {
+        cache.dispose();
+        valid = false;
+    }
+}
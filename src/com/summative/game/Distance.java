@@ -0,0 +1,109 @@
+package com.summative.game;
+
+/**
+ * [Distance.java]
+ * Distances between tiles, measured without square roots or objects.
+ * Ranges are compared as squares: a tile is within a range r when dx * dx + dy * dy is at most r * r.
+ * The left side is always a whole number, so it can be compared with {@link #rangeSquared(double)},
+ * which rounds r * r down once when a unit is created, instead of with the square root of the left side.
+ *
+ * Melee units use the other two measures: {@link #manhattan(int, int, int, int)} is 1 for the four tiles
+ * next to a tile, and {@link #chebyshev(int, int, int, int)} is 1 for the eight tiles around it.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ */
+final class Distance {
+
+    /**
+     * Distance Constructor
+     * This class only has static methods.
+     */
+    private Distance() {
+    }
+
+    /**
+     * squared
+     * Gets the square of the straight line distance between two tiles
+     *
+     * @param x1 the x coordinate of the first tile
+     * @param y1 the y coordinate of the first tile
+     * @param x2 the x coordinate of the second tile
+     * @param y2 the y coordinate of the second tile
+     * @return the distance, squared
+     */
+    static int squared(int x1, int y1, int x2, int y2) {
+        int dx = x1 - x2;
+        int dy = y1 - y2;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * rangeSquared
+     * Converts a range to the largest squared distance within it
+     *
+     * @param range the range
+     * @return the square of the range, rounded down
+     */
+    static int rangeSquared(double range) {
+        return (int) Math.floor(range * range);
+    }
+
+    /**
+     * inRange
+     * Checks if two tiles are within a range of each other
+     *
+     * @param x1           the x coordinate of the first tile
+     * @param y1           the y coordinate of the first tile
+     * @param x2           the x coordinate of the second tile
+     * @param y2           the y coordinate of the second tile
+     * @param rangeSquared the range, from {@link #rangeSquared(double)}
+     * @return true if the tiles are within the range, false otherwise
+     */
+    static boolean inRange(int x1, int y1, int x2, int y2, int rangeSquared) {
+        return squared(x1, y1, x2, y2) <= rangeSquared;
+    }
+
+    /**
+     * manhattan
+     * Gets the number of steps between two tiles when moving up, down, left or right
+     *
+     * @param x1 the x coordinate of the first tile
+     * @param y1 the y coordinate of the first tile
+     * @param x2 the x coordinate of the second tile
+     * @param y2 the y coordinate of the second tile
+     * @return the distance
+     */
+    static int manhattan(int x1, int y1, int x2, int y2) {
+        return Math.abs(x1 - x2) + Math.abs(y1 - y2);
+    }
+
+    /**
+     * chebyshev
+     * Gets the number of steps between two tiles when diagonal steps are allowed
+     *
+     * @param x1 the x coordinate of the first tile
+     * @param y1 the y coordinate of the first tile
+     * @param x2 the x coordinate of the second tile
+     * @param y2 the y coordinate of the second tile
+     * @return the distance
+     */
+    static int chebyshev(int x1, int y1, int x2, int y2) {
+        return Math.max(Math.abs(x1 - x2), Math.abs(y1 - y2));
+    }
+
+    /**
+     * adjacent
+     * Checks if two tiles share a side
+     *
+     * @param x1 the x coordinate of the first tile
+     * @param y1 the y coordinate of the first tile
+     * @param x2 the x coordinate of the second tile
+     * @param y2 the y coordinate of the second tile
+     * @return true if the tiles are next to each other, false otherwise or if they are the same tile
+     */
+    static boolean adjacent(int x1, int y1, int x2, int y2) {
+        return manhattan(x1, y1, x2, y2) == 1;
+    }
+}
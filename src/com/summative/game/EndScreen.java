@@ -6,7 +6,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input.Buttons;
 import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
  * [EndScreen.java]
@@ -24,8 +24,8 @@ public class EndScreen extends ScreenAdapter {
     MyGame game;
     boolean win;
     String stat;
-    Texture winner = new Texture(Gdx.files.internal("Winner.png"));
-    Texture loser = new Texture(Gdx.files.internal("Loser.png"));
+    TextureRegion winner = TextureCache.get("Winner");
+    TextureRegion loser = TextureCache.get("Loser");
 
     /**
      * EndScreen Constructor
@@ -39,6 +39,7 @@ public class EndScreen extends ScreenAdapter {
      */
     public EndScreen(MyGame game, boolean win, int enemyKilled, int vitalsAlive, int playersAlive) {
         this.game = game;
+        TextureCache.acquire();
         this.win = win;
 
         stat = "Game Stat:\nNumber of Enemies Killed: " + enemyKilled + "\nNumber of Vitals Alive: " + vitalsAlive + "\nActive Player Units: " + playersAlive;
@@ -98,5 +99,15 @@ public class EndScreen extends ScreenAdapter {
     @Override
     public void hide() {
         Gdx.input.setInputProcessor(null);
+        dispose();
+    }
+
+    /**
+     * dispose
+     * Releases the texture atlas held by this screen.
+     */
+    @Override
+    public void dispose() {
+        TextureCache.release();
     }
 }
@@ -1,7 +1,5 @@
 package com.summative.game;
 
-import com.badlogic.gdx.graphics.Texture;
-
 /**
  * [Enemy.java]
  * This class is the super class of all enemy units.
@@ -13,47 +11,72 @@ import com.badlogic.gdx.graphics.Texture;
  */
 abstract class Enemy extends Entity implements Attackable {
 
-    private Point attack;
-    private final int weight;
-    private final int attackDamage;
-
     /**
      * Enemy Constructor
      * Contains all the essential information to create a Enemy object.
      *
+     * @param store         the store that holds the data of the unit
      * @param x             the x coordinate
      * @param y             the y coordinate
-     * @param texture       the texture of the sprite
+     * @param spriteName    the name of the sprite in the texture atlas
      * @param health        the initial health value
      * @param movementRange the range of movement
      * @param attackRange   the attack range
      * @param weight        the weight
      * @param damage        the damage
      */
-    Enemy(int x, int y, Texture texture, int health, double movementRange, boolean attackRange, int weight, int damage) {
-        super(x, y, texture, health, movementRange, attackRange);
-        this.weight = weight;
-        attackDamage = damage;
+    Enemy(EntityStore store, int x, int y, String spriteName, int health, double movementRange, boolean attackRange, int weight, int damage) {
+        super(store, x, y, spriteName, health, movementRange, attackRange);
+        store.weight[id] = weight;
+        store.damage[id] = damage;
+    }
+
+    /**
+     * reset
+     * Gives the enemy new data, so an enemy that was taken out of a {@link Pool} can be used again
+     *
+     * @param x             the x coordinate
+     * @param y             the y coordinate
+     * @param health        the initial health value
+     * @param movementRange the range of movement
+     * @param attackRange   the attack range
+     * @param weight        the weight
+     * @param damage        the damage
+     */
+    void reset(int x, int y, int health, double movementRange, boolean attackRange, int weight, int damage) {
+        reset(x, y, health, movementRange, attackRange);
+        store.weight[id] = weight;
+        store.damage[id] = damage;
+    }
+
+    /**
+     * getAttack
+     * Gets the coordinates of the attack destination.
+     *
+     * @return the packed coordinates of the attack destination, or {@link Point#NONE} if the enemy does not attack
+     */
+    public int getAttack() {
+        return store.attack[id];
     }
 
     /**
-     * getAttackY
-     * Gets the y coordinate of the attack destination.
+     * hasAttack
+     * Checks if the enemy attacks next turn.
      *
-     * @return the coordinates of the attack destination
+     * @return true if the enemy has an attack destination, false otherwise
      */
-    public Point getAttack() {
-        return attack;
+    public boolean hasAttack() {
+        return store.attack[id] != Point.NONE;
     }
 
     /**
-     * setAttackY
-     * Sets the y coordinate of the attack location next turn.
+     * setAttack
+     * Sets the coordinates of the attack location next turn.
      *
-     * @param attack the coordinates of the next attack
+     * @param attack the packed coordinates of the next attack, or {@link Point#NONE} for no attack
      */
-    public void setAttack(Point attack) {
-        this.attack = attack;
+    public void setAttack(int attack) {
+        store.attack[id] = attack;
     }
 
     /**
@@ -64,7 +87,7 @@ abstract class Enemy extends Entity implements Attackable {
      * @return the weight of the enemy unit
      */
     public int getWeight() {
-        return weight;
+        return store.weight[id];
     }
 
     /**
@@ -75,6 +98,6 @@ abstract class Enemy extends Entity implements Attackable {
      */
     @Override
     public int attack() {
-        return attackDamage;
+        return store.damage[id];
     }
 }
@@ -1,8 +1,5 @@
 package com.summative.game;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-
 /**
  * [EnemyDestructor.java]
  * An object representing an destructor unit of the {@code Enemy} side.
@@ -17,6 +14,7 @@ public class EnemyDestructor extends Enemy implements Attackable{
     /**
      * EnemyDestructor Constructor
      * Contains all the essential information to create a unit.
+     * @param store the store that holds the data of the unit
      * @param x the x coordinate
      * @param y the y coordinate
      * @param health health of the unit
@@ -25,7 +23,7 @@ public class EnemyDestructor extends Enemy implements Attackable{
      * @param weight weight
      * @param attackDamage the attack damage
      */
-    EnemyDestructor(int x, int y, int health, double movementRange, boolean attackRange, int weight, int attackDamage){
-        super(x, y, new Texture(Gdx.files.internal("EnemyDestructor.png")), health, movementRange, attackRange, weight, attackDamage);
+    EnemyDestructor(EntityStore store, int x, int y, int health, double movementRange, boolean attackRange, int weight, int attackDamage){
+        super(store, x, y, "EnemyDestructor", health, movementRange, attackRange, weight, attackDamage);
     }
 }
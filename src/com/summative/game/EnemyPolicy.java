@@ -0,0 +1,24 @@
+package com.summative.game;
+
+/**
+ * [EnemyPolicy.java]
+ * Plays the side of the enemies: chooses where each enemy moves and what it attacks.
+ * The engine asks for one enemy at a time, in the order of the enemy list, and executes the move.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ * @see GameEngine#enemyAttack(Enemy)
+ */
+interface EnemyPolicy {
+
+    /**
+     * choose
+     * Chooses the move of an enemy. The board must be the same afterwards as before.
+     *
+     * @param engine the rules to play with
+     * @param enemy  the enemy to move
+     * @return one of the moves of {@link GameEngine#enemyOptions(Enemy)}, see {@link GameEngine#option(int, int)}
+     */
+    long choose(GameEngine engine, Enemy enemy);
+}
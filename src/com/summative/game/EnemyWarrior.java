@@ -1,8 +1,5 @@
 package com.summative.game;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-
 /**
  * [EnemyWarrior.java]
  * An object representing an infantry unit of the {@code Enemy} side.
@@ -18,13 +15,14 @@ public class EnemyWarrior extends Enemy implements Attackable {
      * EnemyWarrior Constructor
      * Contains all the essential information to create a unit.
      *
+     * @param store        the store that holds the data of the unit
      * @param x            x position
      * @param y            y position
      * @param health       health
      * @param attackRange  attack range
      * @param attackDamage the damage of the attack
      */
-    EnemyWarrior(int x, int y, int health, double movementRange, boolean attackRange, int weight, int attackDamage) {
-        super(x, y, new Texture(Gdx.files.internal("EnemyWarrior.png")), health, movementRange, attackRange, weight, attackDamage);
+    EnemyWarrior(EntityStore store, int x, int y, int health, double movementRange, boolean attackRange, int weight, int attackDamage) {
+        super(store, x, y, "EnemyWarrior", health, movementRange, attackRange, weight, attackDamage);
     }
 }
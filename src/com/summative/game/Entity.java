@@ -1,11 +1,10 @@
 package com.summative.game;
 
-import com.badlogic.gdx.graphics.Texture;
-
 /**
  * [Entity.java]
  * This class is the superclass of all beings.
  * All beings are able to move and take damage, but not all can attack.
+ * The data of a being is kept in the {@link EntityStore} of the game under its id, so this object is only a view of it.
  *
  * @author Ayden Gao
  * @author Eric Miao
@@ -13,27 +12,85 @@ import com.badlogic.gdx.graphics.Texture;
  */
 abstract class Entity extends GameObject implements Damageable, Movable {
 
-    private int health;
-    private final double movementRange;
-    private final boolean attackRange;
+    final EntityStore store;
+    final int id;
 
     /**
      * Entity Constructor
      * The only constructor of the class.
      * In addition to {@link GameObject}, health value is also essential for this object.
      *
+     * @param store         the store that holds the data of the being
+     * @param x             the x coordinate
+     * @param y             the y coordinate
+     * @param spriteName    the name of the sprite in the texture atlas
+     * @param health        the initial health value
+     * @param movementRange the movement range
+     * @param attackRange   the attack range
+     */
+    Entity(EntityStore store, int x, int y, String spriteName, int health, double movementRange, boolean attackRange) {
+        super(spriteName);
+        this.store = store;
+        id = store.create(x, y, health, movementRange, attackRange);
+    }
+
+    /**
+     * reset
+     * Gives the being new data, so a being that was taken out of a {@link Pool} can be used again
+     *
      * @param x             the x coordinate
      * @param y             the y coordinate
-     * @param texture       the texture of the sprite
      * @param health        the initial health value
      * @param movementRange the movement range
      * @param attackRange   the attack range
      */
-    Entity(int x, int y, Texture texture, int health, double movementRange, boolean attackRange) {
-        super(x, y, texture);
-        this.health = health;
-        this.movementRange = movementRange;
-        this.attackRange = attackRange;
+    void reset(int x, int y, int health, double movementRange, boolean attackRange) {
+        store.reset(id, x, y, health, movementRange, attackRange);
+    }
+
+    /**
+     * getX
+     * Returns the x coordinate of the being
+     *
+     * @return an integer that represents the x coordinate
+     */
+    @Override
+    public int getX() {
+        return Point.x(store.coordinate[id]);
+    }
+
+    /**
+     * getY
+     * Returns the y coordinate of the being
+     *
+     * @return an integer that represents the y coordinate
+     */
+    @Override
+    public int getY() {
+        return Point.y(store.coordinate[id]);
+    }
+
+    /**
+     * getCoordinate
+     * Returns the coordinates of the being
+     *
+     * @return the packed coordinates, see {@link Point}
+     */
+    @Override
+    public int getCoordinate() {
+        return store.coordinate[id];
+    }
+
+    /**
+     * setCoordinate
+     * Sets a new set of coordinates
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     */
+    @Override
+    public void setCoordinate(int x, int y) {
+        store.coordinate[id] = Point.pack(x, y);
     }
 
     /**
@@ -44,7 +101,7 @@ abstract class Entity extends GameObject implements Damageable, Movable {
      */
     @Override
     public int getHealth() {
-        return health;
+        return store.health[id];
     }
 
     /**
@@ -54,7 +111,7 @@ abstract class Entity extends GameObject implements Damageable, Movable {
      * @param health the new health value
      */
     public void setHealth(int health) {
-        this.health = health;
+        store.health[id] = health;
     }
 
     /**
@@ -64,7 +121,18 @@ abstract class Entity extends GameObject implements Damageable, Movable {
      * @return the attack range
      */
     public boolean getAttackRange() {
-        return attackRange;
+        return (store.flags[id] & EntityStore.RANGED) != 0;
+    }
+
+    /**
+     * isRemoved
+     * Checks if the being was killed while removals are deferred and is still waiting to be taken out of the game
+     *
+     * @return true if the being is waiting to be removed, false otherwise
+     * @see GameState#deferRemovals()
+     */
+    public boolean isRemoved() {
+        return (store.flags[id] & EntityStore.REMOVED) != 0;
     }
 
     /**
@@ -74,7 +142,18 @@ abstract class Entity extends GameObject implements Damageable, Movable {
      * @return the movement range
      */
     public double getMovementRange() {
-        return movementRange;
+        return store.movementRange[id];
+    }
+
+    /**
+     * getMovementRangeSquared
+     * Returns the square of the movement range, rounded down, to compare with squared distances
+     *
+     * @return the movement range, squared
+     * @see Distance
+     */
+    public int getMovementRangeSquared() {
+        return store.movementRangeSquared[id];
     }
 
     /**
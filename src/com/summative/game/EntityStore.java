@@ -0,0 +1,201 @@
+package com.summative.game;
+
+import java.util.Arrays;
+
+/**
+ * [EntityStore.java]
+ * The data of every unit of a game, kept in parallel arrays of primitives indexed by the id of the unit.
+ * {@link Entity} and its subclasses are thin views that read and write these arrays, so code that goes
+ * over many units, such as the enemy AI, reads a few contiguous arrays instead of one object per unit.
+ *
+ * The ids of the units on each side are also kept in {@link #players} and {@link #enemies},
+ * in the same order as {@link GameState#playerList} and {@link GameState#enemyList}.
+ * Ids are handed out in order. An id is only used again when its unit is taken out of a {@link Pool} and reset.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ * @see GameState
+ */
+class EntityStore {
+
+    //Flags
+    static final byte RANGED = 1;//attacks from a distance
+    static final byte MOVED = 2;//has moved this turn
+    static final byte ATTACKED = 4;//has attacked this turn
+    static final byte REMOVED = 8;//killed while removals are deferred, see GameState#deferRemovals()
+
+    //Unit data, indexed by id
+    int[] coordinate = new int[16];//see Point
+    int[] health = new int[16];
+    double[] movementRange = new double[16];
+    int[] movementRangeSquared = new int[16];
+    int[] damage = new int[16];
+    int[] knockback = new int[16];
+    int[] weight = new int[16];
+    int[] attack = new int[16];//see Point
+    byte[] flags = new byte[16];
+    private int count = 0;
+
+    //The ids of the units in the game, in the order of the lists of the state
+    int[] players = new int[8];
+    int playerCount = 0;
+    int[] enemies = new int[16];
+    int enemyCount = 0;
+
+    /**
+     * create
+     * Adds a unit and gives it an id
+     *
+     * @param x             the x coordinate
+     * @param y             the y coordinate
+     * @param health        the initial health value
+     * @param movementRange the movement range
+     * @param attackRange   true if the unit attacks from a distance
+     * @return the id of the unit
+     */
+    int create(int x, int y, int health, double movementRange, boolean attackRange) {
+        if (count == coordinate.length) {
+            grow(count * 2);
+        }
+        int id = count++;
+        reset(id, x, y, health, movementRange, attackRange);
+        return id;
+    }
+
+    /**
+     * reset
+     * Sets all the data of a unit as if it was just created
+     *
+     * @param id            the id of the unit
+     * @param x             the x coordinate
+     * @param y             the y coordinate
+     * @param health        the initial health value
+     * @param movementRange the movement range
+     * @param attackRange   true if the unit attacks from a distance
+     */
+    void reset(int id, int x, int y, int health, double movementRange, boolean attackRange) {
+        coordinate[id] = Point.pack(x, y);
+        this.health[id] = health;
+        this.movementRange[id] = movementRange;
+        movementRangeSquared[id] = Distance.rangeSquared(movementRange);
+        damage[id] = 0;
+        knockback[id] = 0;
+        weight[id] = 0;
+        attack[id] = Point.NONE;
+        flags[id] = attackRange ? RANGED : 0;
+    }
+
+    /**
+     * grow
+     * Copies the unit data into larger arrays
+     *
+     * @param capacity the new number of units the arrays can hold
+     */
+    private void grow(int capacity) {
+        coordinate = Arrays.copyOf(coordinate, capacity);
+        health = Arrays.copyOf(health, capacity);
+        movementRange = Arrays.copyOf(movementRange, capacity);
+        movementRangeSquared = Arrays.copyOf(movementRangeSquared, capacity);
+        damage = Arrays.copyOf(damage, capacity);
+        knockback = Arrays.copyOf(knockback, capacity);
+        weight = Arrays.copyOf(weight, capacity);
+        attack = Arrays.copyOf(attack, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+    }
+
+    /**
+     * addPlayer
+     * Adds a unit to the end of the player side
+     *
+     * @param id the id of the unit
+     */
+    void addPlayer(int id) {
+        if (playerCount == players.length) {
+            players = Arrays.copyOf(players, playerCount * 2);
+        }
+        players[playerCount++] = id;
+    }
+
+    /**
+     * removePlayer
+     * Removes a unit from the player side, keeping the order of the others
+     *
+     * @param id the id of the unit
+     */
+    void removePlayer(int id) {
+        playerCount = remove(players, playerCount, id);
+    }
+
+    /**
+     * addEnemy
+     * Adds a unit to the end of the enemy side
+     *
+     * @param id the id of the unit
+     */
+    void addEnemy(int id) {
+        if (enemyCount == enemies.length) {
+            enemies = Arrays.copyOf(enemies, enemyCount * 2);
+        }
+        enemies[enemyCount++] = id;
+    }
+
+    /**
+     * removeEnemy
+     * Removes a unit from the enemy side, keeping the order of the others
+     *
+     * @param id the id of the unit
+     */
+    void removeEnemy(int id) {
+        enemyCount = remove(enemies, enemyCount, id);
+    }
+
+    /**
+     * removeEnemies
+     * Removes every unit marked as removed from the enemy side in one pass, keeping the order of the others,
+     * and clears the mark
+     */
+    void removeEnemies() {
+        int kept = 0;
+        for (int i = 0; i < enemyCount; i++) {
+            int id = enemies[i];
+            if ((flags[id] & REMOVED) != 0) {
+                flags[id] &= ~REMOVED;
+            } else {
+                enemies[kept++] = id;
+            }
+        }
+        enemyCount = kept;
+    }
+
+    /**
+     * clearPlayerFlags
+     * Clears flags of every player unit, for example at the end of a turn
+     *
+     * @param mask the flags to clear
+     */
+    void clearPlayerFlags(byte mask) {
+        for (int i = 0; i < playerCount; i++) {
+            flags[players[i]] &= ~mask;
+        }
+    }
+
+    /**
+     * remove
+     * Removes an id from a list of ids by moving the ones after it forward
+     *
+     * @param ids   the ids
+     * @param count the number of ids in the list
+     * @param id    the id to remove
+     * @return the new number of ids, the same if the id was not in the list
+     */
+    private static int remove(int[] ids, int count, int id) {
+        for (int i = 0; i < count; i++) {
+            if (ids[i] == id) {
+                System.arraycopy(ids, i + 1, ids, i, count - i - 1);
+                return count - 1;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,75 @@
+package com.summative.game;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+
+/**
+ * [FrameCache.java]
+ * Keeps the last rendered frame of a screen in an offscreen {@link FrameBuffer}.
+ * A screen only draws its scene into the cache when something has changed, and every other frame
+ * reuses the previous output by drawing the cache as a single quad.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ */
+class FrameCache {
+
+    private FrameBuffer frameBuffer;
+
+    /**
+     * begin
+     * Starts drawing a new frame into the cache, resizing it to the window if needed.
+     * Frame buffers cannot be nested, so nothing else may be rendered offscreen until {@link #end()}.
+     *
+     * @param width  the width of the window
+     * @param height the height of the window
+     */
+    void begin(int width, int height) {
+        if (frameBuffer == null || frameBuffer.getWidth() != width || frameBuffer.getHeight() != height) {
+            if (frameBuffer != null) {
+                frameBuffer.dispose();
+            }
+            frameBuffer = new FrameBuffer(Pixmap.Format.RGB888, width, height, false);
+        }
+        frameBuffer.begin();
+    }
+
+    /**
+     * end
+     * Stops drawing into the cache.
+     */
+    void end() {
+        frameBuffer.end();
+    }
+
+    /**
+     * draw
+     * Draws the cached frame over the whole window as one quad.
+     * This must be called between {@code begin()} and {@code end()} of the batch.
+     *
+     * @param batch the batch to draw with
+     */
+    void draw(SpriteBatch batch) {
+        if (frameBuffer == null) {
+            return;
+        }
+
+        Texture texture = frameBuffer.getColorBufferTexture();
+        //frame buffers are stored upside down
+        batch.draw(texture, 0, 0, texture.getWidth(), texture.getHeight(), 0, 0, texture.getWidth(), texture.getHeight(), false, true);
+    }
+
+    /**
+     * dispose
+     * Disposes the frame buffer.
+     */
+    void dispose() {
+        if (frameBuffer != null) {
+            frameBuffer.dispose();
+            frameBuffer = null;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.summative.game;
+
+/**
+ * [FreeCells.java]
+ * The set of empty tiles of a board, so a random empty tile can be picked in constant time
+ * instead of trying random tiles until an empty one comes up.
+ * The tiles are kept in an array, and a second array stores where each tile is in the first one.
+ * A tile is removed by moving the last tile of the array into its place, so adding and removing are also constant time.
+ * Tiles are stored as their index on the board, {@code y * size + x}.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ * @see GameState
+ */
+class FreeCells {
+
+    private final int[] cells;//the empty tiles, in no particular order
+    private final int[] position;//the position of each tile in cells, or -1 if the tile is taken
+    private int count;
+
+    /**
+     * FreeCells Constructor
+     * Creates the set with every tile empty
+     *
+     * @param tiles the number of tiles on the board
+     */
+    FreeCells(int tiles) {
+        cells = new int[tiles];
+        position = new int[tiles];
+        for (int i = 0; i < tiles; i++) {
+            cells[i] = i;
+            position[i] = i;
+        }
+        count = tiles;
+    }
+
+    /**
+     * add
+     * Adds an empty tile. Nothing happens if the tile is already in the set.
+     *
+     * @param tile the index of the tile
+     */
+    void add(int tile) {
+        if (position[tile] >= 0) {
+            return;
+        }
+        position[tile] = count;
+        cells[count++] = tile;
+    }
+
+    /**
+     * remove
+     * Removes a tile that has been taken. Nothing happens if the tile is not in the set.
+     *
+     * @param tile the index of the tile
+     */
+    void remove(int tile) {
+        int i = position[tile];
+        if (i < 0) {
+            return;
+        }
+        int last = cells[--count];
+        cells[i] = last;
+        position[last] = i;
+        position[tile] = -1;
+    }
+
+    /**
+     * contains
+     * Checks if a tile is empty
+     *
+     * @param tile the index of the tile
+     * @return true if the tile is in the set, false otherwise
+     */
+    boolean contains(int tile) {
+        return position[tile] >= 0;
+    }
+
+    /**
+     * size
+     * Gets the number of empty tiles
+     *
+     * @return the number of empty tiles
+     */
+    int size() {
+        return count;
+    }
+
+    /**
+     * random
+     * Picks a random empty tile
+     *
+     * @param random the random number generator
+     * @return the index of the tile, or -1 if there are no empty tiles
+     */
+    int random(Rng random) {
+        if (count == 0) {
+            return -1;
+        }
+        return cells[random.nextInt(count)];
+    }
+}
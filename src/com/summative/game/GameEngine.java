@@ -0,0 +1,920 @@
+package com.summative.game;
+
+import com.summative.game.list.List;
+
+/**
+ * [GameEngine.java]
+ * The rules of the game, applied to a {@link GameState}.
+ * The engine places obstacles, vitals and enemies, places the player's units, plays the enemy turn
+ * and applies the moves and attacks chosen by the player.
+ * It does not depend on libGDX, so {@link GameScreen} only handles input and drawing, and games can
+ * also be simulated without a screen.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ */
+class GameEngine {
+
+    static final int ROUNDS = 5;//rounds to survive to win
+    static final int PLAYER_UNITS = 5;//units placed by the player
+
+    final GameState state;
+    final Rng random;//every random decision of the game comes from here
+    final Pathfinder pathfinder;
+    final Reachability reachability;//the tiles each unit can move to
+    EnemyPolicy enemyPolicy;//chooses the moves of the enemies
+    private final int size;
+    private long[] options = new long[8];//the moves an enemy is choosing between, see option(int, int)
+
+    //Objects that come and go during a game are reused instead of created every round
+    private final Pool<EnemyWarrior> warriorPool = new Pool<>();
+    private final Pool<EnemyArtillery> artilleryPool = new Pool<>();
+    private final Pool<EnemyDestructor> destructorPool = new Pool<>();
+    private final Pool<SpawnTile> spawnTilePool = new Pool<>();
+    private final Pool<KillTile> killTilePool = new Pool<>();
+    boolean verbose = false;//prints what happens to the console
+
+    //Unit stats
+    final UnitStats playerWarrior = new UnitStats(3, 4, false, 2, 1, 0);
+    final UnitStats playerArtillery = new UnitStats(2, 3, true, 1, 1, 0);
+    final UnitStats playerSupport = new UnitStats(2, 5, false, 0, 5, 0);
+    final UnitStats enemyWarrior = new UnitStats(3, 5, false, 2, 0, 2);
+    final UnitStats spawnedWarrior = new UnitStats(3, 5, false, 3, 0, 2);//warriors spawned during the game hit harder
+    final UnitStats enemyArtillery = new UnitStats(2, 4, true, 1, 0, 1);
+    final UnitStats enemyDestructor = new UnitStats(3, 5, false, 10, 0, 2);
+    int vitalHealth = 2;
+    int obstructionHealth = 3;
+    int maxEnemyWeight = 10;//total weight of the enemies on the board after spawning
+
+    /**
+     * GameEngine Constructor
+     * Plays a game with a random seed.
+     *
+     * @param state the game to play
+     */
+    GameEngine(GameState state) {
+        this(state, new Rng());
+    }
+
+    /**
+     * GameEngine Constructor
+     * Plays a game with the given random number generator, so the game can be played again from the same seed.
+     *
+     * @param state  the game to play
+     * @param random the random number generator
+     */
+    GameEngine(GameState state, Rng random) {
+        this.state = state;
+        this.random = random;
+        size = state.size;
+        pathfinder = new Pathfinder(state);
+        reachability = new Reachability(state, pathfinder);
+        enemyPolicy = new RandomEnemyPolicy(random);
+    }
+
+    /**
+     * setup
+     * Places the enemies, vitals, kill tiles and obstacles at the start of a game.
+     */
+    void setup() {
+        generateEnemy(3);
+        generateVitals(3);
+        generateKillTiles(2);
+        generateObstacles(2);
+    }
+
+    /**
+     * placePlayer
+     * Places the next player unit during the placement phase.
+     * Two warriors are placed first, then an artillery, then two supports.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return true if a unit was placed, false otherwise
+     */
+    boolean placePlayer(int x, int y) {
+        List<Player> playerList = state.playerList;
+        if (!state.inBounds(x, y)) {
+            log("Out of bound");
+            return false;
+        } else if (!state.isEmpty(x, y)) {
+            log("Tile occupied");
+            return false;
+        }
+
+        Player unit;
+        if (playerList.size() < 2) {
+            unit = new PlayerWarrior(state.entities, x, y, playerWarrior.health, playerWarrior.movementRange, playerWarrior.attackRange, playerWarrior.damage, playerWarrior.knockback);
+        } else if (playerList.size() < 3) {
+            unit = new PlayerArtillery(state.entities, x, y, playerArtillery.health, playerArtillery.movementRange, playerArtillery.attackRange, playerArtillery.damage, playerArtillery.knockback);
+        } else if (playerList.size() < PLAYER_UNITS) {
+            unit = new PlayerSupport(state.entities, x, y, playerSupport.health, playerSupport.movementRange, playerSupport.attackRange, playerSupport.knockback);
+        } else {
+            return false;
+        }
+        state.set(x, y, unit);
+        state.addPlayer(unit);
+
+        if (playerList.size() == PLAYER_UNITS) {//placement is over, the first enemy turn starts
+            state.round++;
+        }
+        return true;
+    }
+
+    /**
+     * isPlacementDone
+     * Checks if every player unit has been placed
+     *
+     * @return true if placement is over, false otherwise
+     */
+    boolean isPlacementDone() {
+        return state.playerList.size() >= PLAYER_UNITS;
+    }
+
+    /**
+     * startEnemyTurn
+     * Resolves the attacks planned by the enemies last turn and spawns the enemies waiting on spawn tiles.
+     */
+    void startEnemyTurn() {
+        executeEnemyAttack();
+        spawnEnemies();
+    }
+
+    /**
+     * endEnemyTurn
+     * Chooses where enemies spawn next turn. This runs after every enemy has moved.
+     */
+    void endEnemyTurn() {
+        generateEnemySpawns();
+    }
+
+    /**
+     * endPlayerTurn
+     * Resets the player units and starts the next round.
+     */
+    void endPlayerTurn() {
+        resetPlayers();
+        state.round++;
+    }
+
+    /**
+     * generateEnemySpawns
+     * Will choose spawn locations for new enemies
+     * Method will contain an algorithm to find the number of enemies to spawn
+     * Right now method will generate maxEnemyNum - number of enemies on board
+     * Fewer enemies spawn if the board fills up.
+     */
+    void generateEnemySpawns() {
+        int enemyWeightRemaining = maxEnemyWeight;
+        int generate;
+        int x, y;
+
+        for (Enemy enemy : state.enemyList) {
+            enemyWeightRemaining -= enemy.getWeight();
+        }
+
+        while (enemyWeightRemaining > 0) {
+            SpawnTile temp;
+            int tile = state.randomEmpty(random);
+            if (tile < 0) {//the board is full
+                log("No empty tile left");
+                break;
+            }
+            x = state.indexX(tile);
+            y = state.indexY(tile);
+
+            generate = random.nextInt(3);
+
+            if (generate == 0) {
+                temp = newSpawnTile(x, y, newWarrior(x, y, spawnedWarrior));
+            } else if (generate == 1) {
+                temp = newSpawnTile(x, y, newArtillery(x, y, enemyArtillery));
+            } else {
+                temp = newSpawnTile(x, y, newDestructor(x, y, enemyDestructor));
+            }
+            enemyWeightRemaining -= temp.getEnemy().getWeight();
+            state.set(x, y, temp);
+            state.spawnList.add(temp);
+        }
+    }
+
+    /**
+     * spawnEnemies
+     * Spawns enemies onto the game board
+     * The spawn tiles are put back in their pool.
+     */
+    void spawnEnemies() {
+        for (SpawnTile tile : state.spawnList) {
+            state.set(tile.getX(), tile.getY(), tile.getEnemy());
+            state.addEnemy(tile.getEnemy());
+            spawnTilePool.free(tile);
+        }
+        state.spawnList.clear();
+    }
+
+    /**
+     * enemyAttack
+     * Lets the enemy policy choose one of the options of the enemy and executes the move
+     *
+     * @param enemy the enemy to move
+     * @see #enemyOptions(Enemy)
+     */
+    void enemyAttack(Enemy enemy) {
+        moveEnemy(enemy, enemyPolicy.choose(this, enemy));
+        if (verbose && enemy.hasAttack()) {//the message is only built when it is printed
+            log("enemy at " + Point.toString(enemy.getCoordinate()) + " will attack " + Point.toString(enemy.getAttack()));
+        }
+        state.changed();
+    }
+
+    /**
+     * enemyOptions
+     * Finds the possible moves for the enemy: one for each player unit or vital it can attack this turn.
+     * If it cannot attack anything, the only move is toward the closest one, see {@link #getOption(int)}.
+     * The enemy can only move to tiles it can walk to, see {@link Pathfinder}.
+     * The player units are read straight from the arrays of the {@link EntityStore}.
+     *
+     * @param enemy the enemy to move
+     * @return the number of moves that attack something, 0 if there is only the move toward the closest object
+     */
+    int enemyOptions(Enemy enemy) {
+        BitBoard reach = reachability.of(enemy);
+        EntityStore entities = state.entities;
+        int count = 0;
+        int closestObject = Point.NONE;
+        int closestDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < entities.playerCount; i++) {
+            int player = entities.coordinate[entities.players[i]];
+            count = addOption(count, enemyAttackable(player, enemy, reach));
+
+            int distance = Distance.squared(Point.x(player), Point.y(player), enemy.getX(), enemy.getY());
+            if (closestObject == Point.NONE || distance < closestDistance) {
+                closestObject = player;
+                closestDistance = distance;
+            }
+        }
+        for (int i = 0; i < state.vitalList.size(); i++) {
+            int vital = state.vitalList.get(i).getCoordinate();
+            count = addOption(count, enemyAttackable(vital, enemy, reach));
+
+            int distance = Distance.squared(Point.x(vital), Point.y(vital), enemy.getX(), enemy.getY());
+            if (closestObject == Point.NONE || distance < closestDistance) {
+                closestObject = vital;
+                closestDistance = distance;
+            }
+        }
+
+        if (count == 0) {//walks toward the closest object, and attacks it if it ends up next to it
+            int moveTo = pathfinder.moveToward(enemy, closestObject, reach);
+            boolean adjacent = Distance.adjacent(Point.x(moveTo), Point.y(moveTo), Point.x(closestObject), Point.y(closestObject));
+            options[0] = option(moveTo, adjacent ? closestObject : Point.NONE);
+        }
+        return count;
+    }
+
+    /**
+     * getOption
+     * Gets a move found by the last call to {@link #enemyOptions(Enemy)}
+     *
+     * @param index the index of the move
+     * @return the move, see {@link #option(int, int)}
+     */
+    long getOption(int index) {
+        return options[index];
+    }
+
+    /**
+     * moveEnemy
+     * Moves an enemy and sets the tile it will attack.
+     * Moving it back to its old tile with its old attack undoes the move.
+     *
+     * @param enemy  the enemy
+     * @param option the move, see {@link #option(int, int)}
+     */
+    void moveEnemy(Enemy enemy, long option) {
+        int moveTo = optionMove(option);
+
+        state.set(enemy.getX(), enemy.getY(), null);//makes prev position null
+        enemy.move(Point.x(moveTo), Point.y(moveTo));//changes x and y
+        state.set(Point.x(moveTo), Point.y(moveTo), enemy);//changes position on the game board
+
+        enemy.setAttack(optionAttack(option));//changes attack X and Y
+    }
+
+    /**
+     * addOption
+     * Adds a move to the options of the enemy, growing the array if it is full.
+     * Moves without a tile to move to are left out.
+     *
+     * @param count  the number of options so far
+     * @param option the move, see {@link #option(int, int)}
+     * @return the new number of options
+     */
+    private int addOption(int count, long option) {
+        if (optionMove(option) == Point.NONE) {
+            return count;
+        }
+        if (count == options.length) {
+            long[] grown = new long[options.length * 2];
+            System.arraycopy(options, 0, grown, 0, count);
+            options = grown;
+        }
+        options[count] = option;
+        return count + 1;
+    }
+
+    /**
+     * option
+     * Packs a move of an enemy into a long, the tile it moves to in the high half and the tile it attacks in the low half
+     *
+     * @param moveTo the packed coordinates of the tile the enemy moves to
+     * @param attack the packed coordinates of the tile it attacks, or {@link Point#NONE}
+     * @return the move
+     */
+    static long option(int moveTo, int attack) {
+        return (long) moveTo << 32 | (attack & 0xFFFFFFFFL);
+    }
+
+    /**
+     * optionMove
+     * Gets the tile a move goes to
+     *
+     * @param option the move, see {@link #option(int, int)}
+     * @return the packed coordinates of the tile
+     */
+    static int optionMove(long option) {
+        return (int) (option >>> 32);
+    }
+
+    /**
+     * optionAttack
+     * Gets the tile a move attacks
+     *
+     * @param option the move, see {@link #option(int, int)}
+     * @return the packed coordinates of the tile, or {@link Point#NONE}
+     */
+    static int optionAttack(long option) {
+        return (int) option;
+    }
+
+    /**
+     * enemyAttackable
+     * This method determines whether the inputted enemy can attack the inputted object
+     * if not then the move location is {@link Point#NONE}
+     *
+     * @param object the packed coordinates of the object getting attacked
+     * @param enemy  the attacker
+     * @param reach  the tiles the enemy can move to
+     * @return the move location and the attack location, see {@link #option(int, int)}
+     */
+    private long enemyAttackable(int object, Enemy enemy, BitBoard reach) {
+        int moveTo = Point.NONE;
+        int xO = Point.x(object);
+        int yO = Point.y(object);
+
+        int attack = object;
+        if (!enemy.getAttackRange()) {//melee attacker
+            int distance, shortestDistance = Integer.MAX_VALUE;
+            //for loop to check directly adjacent tiles instead of multiple if statements
+            for (int direction = 0; direction < 4; direction++) {
+                int x = xO + Pathfinder.DX[direction];
+                int y = yO + Pathfinder.DY[direction];
+                if (reach.get(x, y) && !(x == enemy.getX() && y == enemy.getY())) {
+                    distance = Distance.squared(x, y, enemy.getX(), enemy.getY());
+                    if (moveTo == Point.NONE || distance < shortestDistance) {
+                        shortestDistance = distance;
+                        moveTo = Point.pack(x, y);
+                    }
+                }
+            }
+            //if enemy is at adjacent tile
+            if (Distance.adjacent(enemy.getX(), enemy.getY(), xO, yO)) {
+                moveTo = enemy.getCoordinate();
+            }
+            return option(moveTo, attack);
+        } else {//ranged attacker
+            if (yO == enemy.getY() || xO == enemy.getX()) {
+                return option(enemy.getCoordinate(), attack);
+            }
+
+            //the first tile the enemy can reach on the row or the column of the object, the row winning ties
+            int row = reach.firstInRow(yO, 0, size - 1);
+            int column = reach.firstInColumn(xO, 0, size - 1);
+            if (row >= 0 && (column < 0 || row <= column)) {//horizontal axis
+                return option(Point.pack(row, yO), attack);
+            } else if (column >= 0) {//vertical axis
+                return option(Point.pack(xO, column), attack);
+            }
+        }
+        return option(pathfinder.moveToward(enemy, object, reach), Point.NONE);//if enemy can't attack the object
+    }
+
+    /**
+     * executeEnemyAttack
+     * Executes the attack of the selected enemy.
+     * This method should include enemy list as enemies will be pushed.
+     * Enemies won't target themselves and their allies but they can be damaged if pushed by player.
+     */
+    void executeEnemyAttack() {
+        state.deferRemovals();//killed enemies are only marked, so the loop below is safe
+        for (Enemy enemy : state.enemyList) {
+            if (enemy.isRemoved() || !enemy.hasAttack()) {//enemy was killed earlier in the same pass or doesn't attack
+                continue;//goes to the next enemy
+            }
+            int attackX = Point.x(enemy.getAttack());
+            int attackY = Point.y(enemy.getAttack());
+            if (verbose) {
+                log("Enemy " + Point.toString(enemy.getCoordinate()) + " attacks " + attackX + " " + attackY);
+            }
+            GameObject object = state.get(attackX, attackY);
+            if (object instanceof Damageable) {
+                ((Damageable) object).damageTaken(((Attackable) enemy).attack());//takes damage
+
+                //removes the object from board if health <= 0
+                if (((Damageable) object).getHealth() <= 0) {//if object is destroyed or killed
+                    state.set(attackX, attackY, null);
+                    if (verbose) {
+                        log("Object at " + Point.toString(object.getCoordinate()) + " is obliterated");
+                    }
+                    if (object instanceof Player) {
+                        state.removePlayer((Player) object);
+                    } else if (object instanceof Enemy) {
+                        state.killed++;
+                        state.removeEnemy((Enemy) object);
+                        freeEnemy((Enemy) object);
+                    } else if (object instanceof Vital) {
+                        state.vitalList.remove(((Vital) object));
+                    }
+                }
+            }
+            if (enemy instanceof EnemyDestructor) {
+                if (state.killTiles.get(attackX, attackY)) {//the old kill tile is replaced
+                    killTilePool.free((KillTile) state.get(attackX, attackY));
+                }
+                state.set(attackX, attackY, newKillTile(attackX, attackY));
+                if (verbose) {
+                    log("Kill tile created at " + attackX + " " + attackY);
+                }
+            }
+        }
+        state.flushRemovals();//sweeps out every enemy killed during the pass
+        state.changed();
+    }
+
+    /**
+     * playerAttack
+     * Player will select a x and y coordinate to attack,
+     * Player unit will attack the coordinate if the unit has not attacked previously in the same turn.
+     *
+     * @param player the player attacking
+     * @param x      x coordinate
+     * @param y      y coordinate
+     */
+    void playerAttack(Player player, int x, int y) {
+        if (player.isAttacked()) {
+            log("Unit has already attacked");
+            return;
+        }
+
+        if (!player.getAttackRange()) {//melee
+            if (Distance.chebyshev(player.getX(), player.getY(), x, y) > 1) {
+                log("out of range");
+                return;
+            }
+        } else {
+            if (player.getX() != x && player.getY() != y) {
+                log("out of range");
+                return;
+            }
+        }
+
+        if (player.getX() == x && player.getY() == y) {
+            log("you can't attack yourself");
+            return;
+        }
+
+        if (verbose) {
+            log("Player at " + Point.toString(player.getCoordinate()) + " attacks " + x + " " + y);
+        }
+        GameObject target = state.get(x, y);
+        if (target instanceof Damageable && player instanceof Attackable) {
+            ((Damageable) target).damageTaken(((Attackable) player).attack());
+
+            if (((Damageable) target).getHealth() <= 0) {//if object is destroyed or killed
+                state.set(target.getX(), target.getY(), null);
+                if (verbose) {
+                    log("Object at " + Point.toString(target.getCoordinate()) + " is destroyed or killed");
+                }
+                if (target instanceof Enemy) {//removes enemy from enemy list
+                    state.killed++;
+                    state.removeEnemy((Enemy) target);
+                    freeEnemy((Enemy) target);
+                } else if (target instanceof Player) {
+                    state.removePlayer((Player) target);
+                } else if (target instanceof Vital) {
+                    state.vitalList.remove(((Vital) target));
+                }
+            } else if (target instanceof Movable) {
+                takeKnockback(player, target);
+            }
+        } else if (target instanceof Movable) {//For player support
+            takeKnockback(player, target);
+        }
+
+        player.setAttacked(true);
+        state.changed();
+    }
+
+    /**
+     * playerMove
+     * Moves the Player unit to the inputted coordinate.
+     * The unit can move to any empty tile or spawn tile within its movement range, see {@link Reachability}.
+     *
+     * @param unit the unit to move
+     * @param x    x coordinate
+     * @param y    y coordinate
+     */
+    void playerMove(Player unit, int x, int y) {
+        if (unit.isMoved()) {//if player has moved already
+            log("player has moved already");
+            return;
+        }
+
+        if (!reachability.of(unit).get(x, y)) {
+            log("Out of movement range");
+            return;
+        }
+
+        if (state.spawnTiles.get(x, y)) {
+            removeSpawn((SpawnTile) state.get(x, y));
+        }
+        state.set(unit.getX(), unit.getY(), null);
+        state.set(x, y, unit);
+        unit.move(x, y);
+        unit.setMoved(true);
+    }
+
+    /**
+     * takeKnockback
+     * Will move a unit int knockback units away from its original position
+     * If the knocked back unit is an enemy, the location of its attack will change accordingly
+     *
+     * @param player the object exerting the knockback
+     * @param object the object getting knocked back
+     */
+    private void takeKnockback(Player player, GameObject object) {
+        //when this method is called the object are already adjacent to one another
+        int attackerX = player.getX();//the object attacking
+        int attackerY = player.getY();
+        int attackeeX = object.getX();//the object getting attacked
+        int attackeeY = object.getY();
+
+        int direction;//if the movement is in a positive or negative direction
+        boolean vertical;//if the movement is vertical
+
+        if (attackerX == attackeeX && attackerY < attackeeY) {//DOWN
+            direction = 1;
+            vertical = true;
+        } else if (attackerX == attackeeX && attackerY > attackeeY) {//UP
+            direction = -1;
+            vertical = true;
+        } else if (attackerY == attackeeY && attackerX > attackeeX) {//LEFT
+            direction = -1;
+            vertical = false;
+        } else {//RIGHT
+            direction = 1;
+            vertical = false;
+        }
+
+        int x, y;
+        for (int i = 1; i <= player.getKnockback(); i++) {//loops 'knockback' amount of times
+            if (vertical) {//vertical knockback
+                x = attackeeX;
+                y = attackeeY + (i * direction);
+            } else {//horizontal knockback
+                x = attackeeX + (i * direction);
+                y = attackerY;
+            }
+
+            if (x >= size || y >= size || y < 0 || x < 0) {//checks if values are in bound
+                break;
+            }
+            if (state.isEmpty(x, y)) {// if the tile can be moved on
+                //moves the object onto that tile
+                state.set(object.getX(), object.getY(), null);
+                ((Movable) object).move(x, y);
+                state.set(x, y, object);
+
+                if (object instanceof Enemy && ((Enemy) object).hasAttack()) {//if object is an enemy with an attack
+                    Enemy enemy = (Enemy) object;
+                    int attackX = Point.x(enemy.getAttack());
+                    int attackY = Point.y(enemy.getAttack());
+                    if (vertical) {//vertical push
+                        attackY += direction;
+                    } else {//horizontal push
+                        attackX += direction;
+                    }
+                    //if out of bounds, cancel the enemy attack
+                    if (attackX < 0 || attackY < 0 || attackX >= size || attackY >= size) {
+                        enemy.setAttack(Point.NONE);
+                        log("Attack cancelled");
+                    } else {
+                        enemy.setAttack(Point.pack(attackX, attackY));
+                    }
+                }
+            } else if (state.killTiles.get(x, y)) {
+                if (object instanceof Enemy) {
+                    state.killed++;
+                    state.removeEnemy((Enemy) object);//remove object from list
+                } else if (object instanceof Player) {
+                    state.removePlayer((Player) object);//remove object from list
+                }
+                state.set(object.getX(), object.getY(), null);//remove object from board
+                if (object instanceof Enemy) {
+                    freeEnemy((Enemy) object);
+                }
+                if (verbose) {
+                    log("object at " + attackeeX + " " + attackeeY + " is killed by kill tile at " + x + " " + y);
+                }
+                break;
+            } else if (state.spawnTiles.get(x, y)) {
+                if (i == player.getKnockback()) {//does not go back
+                    state.set(object.getX(), object.getY(), null);
+                    removeSpawn((SpawnTile) state.get(x, y));
+                    state.set(x, y, object);
+                    ((Movable) object).move(x, y);
+                } else {//still goes back
+                    int nextX, nextY;
+                    if (vertical) {
+                        nextX = attackeeX;
+                        nextY = attackeeY + ((i + 1) * direction);
+                    } else {//horizontal knockback
+                        nextX = attackeeX + ((i + 1) * direction);
+                        nextY = attackerY;
+                    }
+
+                    if (nextX >= size || nextY >= size || nextY < 0 || nextX < 0) {//if out of bound, the enemy stays at the spawn tile location
+                        state.set(object.getX(), object.getY(), null);
+                        removeSpawn((SpawnTile) state.get(x, y));
+                        state.set(x, y, object);
+                        ((Movable) object).move(x, y);
+                    } else if (state.occupied.get(nextX, nextY) && !state.killTiles.get(nextX, nextY)) {//if next tile has object that's not kill
+                        state.set(object.getX(), object.getY(), null);
+                        removeSpawn((SpawnTile) state.get(x, y));
+                        state.set(x, y, object);
+                        ((Movable) object).move(x, y);
+                    }
+                }
+            } else {
+                break;
+            }
+        }
+
+        if (object instanceof Enemy) {//prints out new position and attack position
+            if (verbose && ((Enemy) object).hasAttack()) {//the message is only built when it is printed
+                log("object at " + object.getX() + " " + object.getY() + " will attack at " + Point.toString(((Enemy) object).getAttack()));
+            }
+        }
+    }
+
+    /**
+     * resetPlayers
+     * Resets the moved and attacked boolean variables.
+     * This method runs after the Player ends their turn.
+     */
+    void resetPlayers() {
+        state.entities.clearPlayerFlags((byte) (EntityStore.MOVED | EntityStore.ATTACKED));
+    }
+
+    /**
+     * generateKillTiles
+     * Adds {@code KillTile} to the game board. Stops early if the board is full.
+     *
+     * @param killTileNum the number of kill tiles to generate
+     * @see Obstacle
+     */
+    void generateKillTiles(int killTileNum) {
+        int x, y;
+        for (int i = 0; i < killTileNum; i++) {
+            int tile = state.randomEmpty(random);
+            if (tile < 0) {//the board is full
+                log("No empty tile left");
+                return;
+            }
+            x = state.indexX(tile);
+            y = state.indexY(tile);
+            state.set(x, y, newKillTile(x, y));
+        }
+    }
+
+    /**
+     * generateObstacles
+     * Adds {@code Obstacle} to the game board. Stops early if the board is full.
+     *
+     * @param obstructionNum the number of obstacles to add
+     * @see Obstacle
+     */
+    void generateObstacles(int obstructionNum) {
+        int x, y;
+        for (int i = 0; i < obstructionNum; i++) {
+            int tile = state.randomEmpty(random);
+            if (tile < 0) {//the board is full
+                log("No empty tile left");
+                return;
+            }
+            x = state.indexX(tile);
+            y = state.indexY(tile);
+            state.set(x, y, new Obstruction(x, y, obstructionHealth));
+        }
+    }
+
+    /**
+     * generateVitals
+     * Adds {@code Vital} to the game board and to the list of vitals. Stops early if the board is full.
+     *
+     * @param vitalNum the number of vitals to add
+     * @see Vital
+     */
+    void generateVitals(int vitalNum) {
+        int x, y;
+        for (int i = 0; i < vitalNum; i++) {
+            int tile = state.randomEmpty(random);
+            if (tile < 0) {//the board is full
+                log("No empty tile left");
+                return;
+            }
+            x = state.indexX(tile);
+            y = state.indexY(tile);
+            Vital vital = new Vital(x, y, vitalHealth);
+            state.set(x, y, vital);
+            state.vitalList.add(vital);
+        }
+    }
+
+    /**
+     * generateEnemy
+     * Adds {@code Enemy} to the game board and to the list of enemies. Stops early if the board is full.
+     *
+     * @param enemyNum the number of enemies to be created
+     * @see Enemy
+     */
+    void generateEnemy(int enemyNum) {
+        int x, y;
+        int generate;
+        Enemy temp;
+        for (int i = 0; i < enemyNum; i++) {
+            int tile = state.randomEmpty(random);
+            if (tile < 0) {//the board is full
+                log("No empty tile left");
+                return;
+            }
+            x = state.indexX(tile);
+            y = state.indexY(tile);
+
+            generate = random.nextInt(3);
+
+            if (generate == 0) {
+                temp = newArtillery(x, y, enemyArtillery);
+            } else if (generate == 1) { //--------end
+                temp = newWarrior(x, y, enemyWarrior);
+            } else {
+                temp = newDestructor(x, y, enemyDestructor);
+            }
+            state.set(x, y, temp);
+            state.addEnemy(temp);
+        }
+    }
+
+    /**
+     * newWarrior
+     * Takes a warrior out of its pool, or creates one if the pool is empty
+     *
+     * @param x     the x coordinate
+     * @param y     the y coordinate
+     * @param stats the stats of the warrior
+     * @return the warrior
+     */
+    private EnemyWarrior newWarrior(int x, int y, UnitStats stats) {
+        EnemyWarrior enemy = warriorPool.obtain();
+        if (enemy == null) {
+            return new EnemyWarrior(state.entities, x, y, stats.health, stats.movementRange, stats.attackRange, stats.weight, stats.damage);
+        }
+        enemy.reset(x, y, stats.health, stats.movementRange, stats.attackRange, stats.weight, stats.damage);
+        return enemy;
+    }
+
+    /**
+     * newArtillery
+     * Takes an artillery out of its pool, or creates one if the pool is empty
+     *
+     * @param x     the x coordinate
+     * @param y     the y coordinate
+     * @param stats the stats of the artillery
+     * @return the artillery
+     */
+    private EnemyArtillery newArtillery(int x, int y, UnitStats stats) {
+        EnemyArtillery enemy = artilleryPool.obtain();
+        if (enemy == null) {
+            return new EnemyArtillery(state.entities, x, y, stats.health, stats.movementRange, stats.attackRange, stats.weight, stats.damage);
+        }
+        enemy.reset(x, y, stats.health, stats.movementRange, stats.attackRange, stats.weight, stats.damage);
+        return enemy;
+    }
+
+    /**
+     * newDestructor
+     * Takes a destructor out of its pool, or creates one if the pool is empty
+     *
+     * @param x     the x coordinate
+     * @param y     the y coordinate
+     * @param stats the stats of the destructor
+     * @return the destructor
+     */
+    private EnemyDestructor newDestructor(int x, int y, UnitStats stats) {
+        EnemyDestructor enemy = destructorPool.obtain();
+        if (enemy == null) {
+            return new EnemyDestructor(state.entities, x, y, stats.health, stats.movementRange, stats.attackRange, stats.weight, stats.damage);
+        }
+        enemy.reset(x, y, stats.health, stats.movementRange, stats.attackRange, stats.weight, stats.damage);
+        return enemy;
+    }
+
+    /**
+     * freeEnemy
+     * Puts an enemy that left the game back in its pool. It must not be used until it is taken out again.
+     *
+     * @param enemy the enemy
+     */
+    private void freeEnemy(Enemy enemy) {
+        if (enemy instanceof EnemyWarrior) {
+            warriorPool.free((EnemyWarrior) enemy);
+        } else if (enemy instanceof EnemyArtillery) {
+            artilleryPool.free((EnemyArtillery) enemy);
+        } else if (enemy instanceof EnemyDestructor) {
+            destructorPool.free((EnemyDestructor) enemy);
+        }
+    }
+
+    /**
+     * newSpawnTile
+     * Takes a spawn tile out of its pool, or creates one if the pool is empty
+     *
+     * @param x     the x coordinate
+     * @param y     the y coordinate
+     * @param enemy the enemy to be spawned
+     * @return the spawn tile
+     */
+    private SpawnTile newSpawnTile(int x, int y, Enemy enemy) {
+        SpawnTile tile = spawnTilePool.obtain();
+        if (tile == null) {
+            return new SpawnTile(x, y, enemy);
+        }
+        tile.reset(x, y, enemy);
+        return tile;
+    }
+
+    /**
+     * removeSpawn
+     * Cancels a spawn blocked by a player unit, and puts the spawn tile and its enemy back in their pools.
+     * The spawn tile still has to be taken off the board.
+     *
+     * @param tile the spawn tile
+     */
+    private void removeSpawn(SpawnTile tile) {
+        state.spawnList.remove(tile);
+        freeEnemy(tile.getEnemy());
+        spawnTilePool.free(tile);
+    }
+
+    /**
+     * newKillTile
+     * Takes a kill tile out of its pool, or creates one if the pool is empty
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the kill tile
+     */
+    private KillTile newKillTile(int x, int y) {
+        KillTile tile = killTilePool.obtain();
+        if (tile == null) {
+            return new KillTile(x, y);
+        }
+        tile.reset(x, y);
+        return tile;
+    }
+
+    /**
+     * log
+     * Prints a message about the game to the console if the engine is verbose.
+     * Callers that build the message from several parts check {@link #verbose} first,
+     * so the simulator does not build messages it never prints.
+     *
+     * @param message the message
+     */
+    private void log(String message) {
+        if (verbose) {
+            System.out.println(message);
+        }
+    }
+}
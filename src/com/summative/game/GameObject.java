@@ -1,11 +1,12 @@
 package com.summative.game;
 
-import com.badlogic.gdx.graphics.Texture;
-
 /**
  * [GameObject.java]
  * This class is the superclass of all objects in the application.
- * All objects have a coordinate on the plane, and their own texture.
+ * All objects have a coordinate on the plane, and the name of a sprite in the shared texture atlas.
+ * Objects only refer to their sprite by name, so the game can run without libGDX.
+ * Where the coordinate is kept is up to the subclass: {@link Obstacle} keeps it in a field,
+ * while {@link Entity} keeps it in the {@link EntityStore} of the game.
  *
  * @author Ayden Gao
  * @author Eric Miao
@@ -13,31 +14,28 @@ import com.badlogic.gdx.graphics.Texture;
  */
 abstract class GameObject {
 
-    private Point coordinate;//position on the game board
-    private final Texture texture;
+    private final String spriteName;
+    boolean pooled = false;//true while the object waits in a Pool, see Pool#free(GameObject)
 
     /**
      * GameObject Constructor
      * The only constructor of the class.
-     * All objects contain a valid coordinate on a plane.
      *
-     * @param x the x coordinate
-     * @param y the y coordinate
-     * @param texture the texture of the sprite
+     * @param spriteName the name of the sprite in the texture atlas
+     * @see TextureCache
      */
-    GameObject(int x, int y, Texture texture) {
-        coordinate = new Point(x, y);
-        this.texture = texture;
+    GameObject(String spriteName) {
+        this.spriteName = spriteName;
     }
 
     /**
-     * getTexture
-     * Gets the texture of the sprite
+     * getSpriteName
+     * Gets the name of the sprite in the texture atlas
      *
-     * @return texture
+     * @return the sprite name
      */
-    public Texture getTexture(){
-        return texture;
+    public String getSpriteName() {
+        return spriteName;
     }
 
     /**
@@ -46,9 +44,7 @@ abstract class GameObject {
      *
      * @return an integer that represents the x coordinate
      */
-    public int getX() {
-        return coordinate.getX();
-    }
+    public abstract int getX();
 
     /**
      * getY
@@ -56,19 +52,15 @@ abstract class GameObject {
      *
      * @return an integer that represents the y coordinate
      */
-    public int getY() {
-        return coordinate.getY();
-    }
+    public abstract int getY();
 
     /**
      * getCoordinate
      * Returns the coordinates of the object
      *
-     * @return a Point object
+     * @return the packed coordinates, see {@link Point}
      */
-    public Point getCoordinate() {
-        return new Point(coordinate);
-    }
+    public abstract int getCoordinate();
 
     /**
      * setCoordinate
@@ -77,7 +69,5 @@ abstract class GameObject {
      * @param x the x coordinate
      * @param y the y coordinate
      */
-    public void setCoordinate(int x, int y) {
-        coordinate.move(x, y);
-    }
+    public abstract void setCoordinate(int x, int y);
 }
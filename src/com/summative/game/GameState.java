@@ -0,0 +1,365 @@
+package com.summative.game;
+
+import com.summative.game.list.List;
+
+/**
+ * [GameState.java]
+ * Everything that describes a game in progress: the board, the units and objects on it, the round and the score.
+ * This class does not depend on libGDX, so a game can be played without a screen or an OpenGL context.
+ * All changes to the board go through {@link #set(int, int, GameObject)}, so other structures can be kept in sync with it,
+ * such as the set of empty tiles used to place new objects and one {@link BitBoard} for each kind of object.
+ * The rules ask the bit boards what kind of object is on a tile instead of checking the object itself.
+ * The {@link ThreatMap} of the enemies is also told about every change, so it never has to be rebuilt.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ * @see GameEngine
+ */
+class GameState {
+
+    static final int MAX_SIZE = 512;//largest supported board, for stress tests and training
+
+    final int size;
+    private final GameObject[] board;//row by row, see index(int, int)
+    private final FreeCells freeCells;
+
+    //Bit boards, one bit per tile
+    final BitBoard occupied;
+    final BitBoard players;
+    final BitBoard enemies;
+    final BitBoard vitals;
+    final BitBoard killTiles;
+    final BitBoard spawnTiles;
+    final BitBoard obstructions;
+
+    //Game Lists
+    final List<Player> playerList = new List<>();
+    final List<Enemy> enemyList = new List<>();
+    final List<Vital> vitalList = new List<>();
+    final List<SpawnTile> spawnList = new List<>();
+    final EntityStore entities = new EntityStore();//the data of the units, see Entity
+    final ThreatMap threats;//the tiles the enemies could attack next turn
+
+    int round = 0;
+    int killed = 0;
+    private int changes = 0;
+    private int boardChanges = 0;
+    private boolean deferring = false;//see deferRemovals()
+    private int removals = 0;//enemies marked as removed while deferring
+
+    /**
+     * GameState Constructor
+     * Creates an empty square board.
+     *
+     * @param size the number of tiles on each side of the board
+     * @throws IllegalArgumentException if the size is not between 1 and {@link #MAX_SIZE}
+     */
+    GameState(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Board size must be between 1 and " + MAX_SIZE + ": " + size);
+        }
+        this.size = size;
+        board = new GameObject[size * size];
+        freeCells = new FreeCells(size * size);
+        occupied = new BitBoard(size);
+        players = new BitBoard(size);
+        enemies = new BitBoard(size);
+        vitals = new BitBoard(size);
+        killTiles = new BitBoard(size);
+        spawnTiles = new BitBoard(size);
+        obstructions = new BitBoard(size);
+        threats = new ThreatMap(this);
+    }
+
+    /**
+     * get
+     * Gets the object on a tile
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the object on the tile, or null if the tile is empty
+     */
+    GameObject get(int x, int y) {
+        return board[index(x, y)];
+    }
+
+    /**
+     * set
+     * Puts an object on a tile, replacing whatever was there
+     *
+     * @param x      the x coordinate
+     * @param y      the y coordinate
+     * @param object the object, or null to empty the tile
+     */
+    void set(int x, int y, GameObject object) {
+        int index = index(x, y);
+        GameObject previous = board[index];
+        if (previous != null) {
+            occupied.clear(x, y);
+            BitBoard layer = layer(previous);
+            if (layer != null) {
+                layer.clear(x, y);
+            }
+        }
+        if (object != null) {
+            occupied.set(x, y);
+            BitBoard layer = layer(object);
+            if (layer != null) {
+                layer.set(x, y);
+            }
+        }
+
+        if (previous == null && object != null) {
+            freeCells.remove(index);
+        } else if (previous != null && object == null) {
+            freeCells.add(index);
+        }
+        board[index] = object;
+        threats.tileChanged(x, y);
+        changes++;
+        boardChanges++;
+    }
+
+    /**
+     * layer
+     * Gets the bit board that holds a kind of object
+     *
+     * @param object the object
+     * @return the bit board, or null if the object has no bit board of its own
+     */
+    private BitBoard layer(GameObject object) {
+        if (object instanceof Player) {
+            return players;
+        } else if (object instanceof Enemy) {
+            return enemies;
+        } else if (object instanceof Vital) {
+            return vitals;
+        } else if (object instanceof KillTile) {
+            return killTiles;
+        } else if (object instanceof SpawnTile) {
+            return spawnTiles;
+        } else if (object instanceof Obstruction) {
+            return obstructions;
+        }
+        return null;
+    }
+
+    /**
+     * randomEmpty
+     * Picks a random empty tile without retrying, so it takes the same time however full the board is
+     *
+     * @param random the random number generator
+     * @return the index of the tile, or -1 if the board is full
+     * @see #indexX(int)
+     * @see #indexY(int)
+     */
+    int randomEmpty(Rng random) {
+        return freeCells.random(random);
+    }
+
+    /**
+     * countEmpty
+     * Gets the number of empty tiles
+     *
+     * @return the number of empty tiles
+     */
+    int countEmpty() {
+        return freeCells.size();
+    }
+
+    /**
+     * index
+     * Gets the index of a tile
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the index of the tile
+     */
+    int index(int x, int y) {
+        return y * size + x;
+    }
+
+    /**
+     * indexX
+     * Gets the x coordinate of a tile from its index
+     *
+     * @param index the index of the tile
+     * @return the x coordinate
+     */
+    int indexX(int index) {
+        return index % size;
+    }
+
+    /**
+     * indexY
+     * Gets the y coordinate of a tile from its index
+     *
+     * @param index the index of the tile
+     * @return the y coordinate
+     */
+    int indexY(int index) {
+        return index / size;
+    }
+
+    /**
+     * inBounds
+     * Checks if a coordinate is on the board
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return true if the coordinate is on the board, false otherwise
+     */
+    boolean inBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < size && y < size;
+    }
+
+    /**
+     * isEmpty
+     * Checks if a tile is on the board and has nothing on it
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return true if the tile is empty, false otherwise
+     */
+    boolean isEmpty(int x, int y) {
+        return inBounds(x, y) && !occupied.get(x, y);
+    }
+
+    /**
+     * addPlayer
+     * Adds a player unit to the game. The unit still has to be put on the board.
+     *
+     * @param unit the unit
+     */
+    void addPlayer(Player unit) {
+        playerList.add(unit);
+        entities.addPlayer(unit.id);
+    }
+
+    /**
+     * removePlayer
+     * Removes a player unit from the game. The unit still has to be taken off the board.
+     *
+     * @param unit the unit
+     */
+    void removePlayer(Player unit) {
+        playerList.remove(unit);
+        entities.removePlayer(unit.id);
+    }
+
+    /**
+     * addEnemy
+     * Adds an enemy to the game. The enemy still has to be put on the board.
+     *
+     * @param enemy the enemy
+     */
+    void addEnemy(Enemy enemy) {
+        enemyList.add(enemy);
+        entities.addEnemy(enemy.id);
+        threats.addEnemy(enemy);
+    }
+
+    /**
+     * removeEnemy
+     * Removes an enemy from the game. The enemy still has to be taken off the board.
+     * While removals are deferred, the enemy is only marked, which takes constant time, and stops threatening tiles.
+     *
+     * @param enemy the enemy
+     * @see #deferRemovals()
+     */
+    void removeEnemy(Enemy enemy) {
+        if (deferring) {
+            if (!enemy.isRemoved()) {
+                entities.flags[enemy.id] |= EntityStore.REMOVED;
+                removals++;
+                threats.removeEnemy(enemy);
+            }
+            return;
+        }
+        enemyList.remove(enemy);
+        entities.removeEnemy(enemy.id);
+        threats.removeEnemy(enemy);
+    }
+
+    /**
+     * deferRemovals
+     * Starts deferring the removal of enemies, so enemies can be killed while {@link #enemyList} is being iterated.
+     * Until {@link #flushRemovals()} is called, killed enemies stay in the list and are marked, see {@link Entity#isRemoved()}.
+     */
+    void deferRemovals() {
+        deferring = true;
+    }
+
+    /**
+     * flushRemovals
+     * Takes every enemy marked since {@link #deferRemovals()} out of the game in one sweep of each list,
+     * and stops deferring removals
+     */
+    void flushRemovals() {
+        deferring = false;
+        if (removals == 0) {
+            return;
+        }
+
+        enemyList.deferRemovals();
+        for (int i = 0; i < enemyList.size(); i++) {
+            if (enemyList.get(i).isRemoved()) {
+                enemyList.remove(i);
+            }
+        }
+        enemyList.flushRemovals();
+        entities.removeEnemies();//also clears the marks
+        removals = 0;
+    }
+
+    /**
+     * changed
+     * Records a change to the state that is not a change of the board, such as damage.
+     */
+    void changed() {
+        changes++;
+    }
+
+    /**
+     * getChanges
+     * Gets a counter that increases every time the state changes.
+     * Comparing it between two points in time tells if anything changed in between.
+     *
+     * @return the change counter
+     */
+    int getChanges() {
+        return changes;
+    }
+
+    /**
+     * getBoardChanges
+     * Gets a counter that increases every time an object is put on or taken off the board.
+     * Unlike {@link #getChanges()}, damage and other changes to the objects themselves are not counted.
+     *
+     * @return the board change counter
+     */
+    int getBoardChanges() {
+        return boardChanges;
+    }
+
+    /**
+     * isLost
+     * Checks if the player has lost the game
+     *
+     * @return true if every player unit or every vital is gone, false otherwise
+     */
+    boolean isLost() {
+        return playerList.isEmpty() || vitalList.isEmpty();
+    }
+
+    /**
+     * isWon
+     * Checks if the player has survived every round
+     *
+     * @return true if the game is won, false otherwise
+     */
+    boolean isWon() {
+        return round > GameEngine.ROUNDS;
+    }
+}
@@ -0,0 +1,163 @@
+package com.summative.game;
+
+/**
+ * [GreedyPlayerPolicy.java]
+ * A scripted player. Each unit attacks the weakest enemy it can reach without moving,
+ * otherwise it moves as close as it can to the nearest enemy and attacks from there.
+ * Units are placed next to the vitals, which is what a careful human player does.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ */
+class GreedyPlayerPolicy extends RandomPlayerPolicy {
+
+    /**
+     * GreedyPlayerPolicy Constructor
+     *
+     * @param random the random number generator of the game, used to place units when no vital has room
+     */
+    GreedyPlayerPolicy(Rng random) {
+        super(random);
+    }
+
+    /**
+     * place
+     * Chooses an empty tile next to a vital, or a random tile if there is none
+     *
+     * @param state the game
+     * @return the packed coordinates of an empty tile, or {@link Point#NONE} if the board is full
+     */
+    @Override
+    public int place(GameState state) {
+        for (Vital vital : state.vitalList) {
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dx = -1; dx <= 1; dx++) {
+                    if (state.isEmpty(vital.getX() + dx, vital.getY() + dy)) {
+                        return Point.pack(vital.getX() + dx, vital.getY() + dy);
+                    }
+                }
+            }
+        }
+        return super.place(state);
+    }
+
+    /**
+     * playTurn
+     * Attacks with every unit that has a target, and moves the others towards the enemies first
+     *
+     * @param state  the game
+     * @param engine the rules to play with
+     */
+    @Override
+    public void playTurn(GameState state, GameEngine engine) {
+        for (Player unit : units(state)) {
+            if (state.playerList.indexOf(unit) < 0) {//killed by another unit this turn
+                continue;
+            }
+            int target = target(state, unit);
+            if (target == Point.NONE) {
+                int nearest = nearest(state, unit);
+                if (nearest == Point.NONE) {
+                    continue;
+                }
+                int tile = approach(state, engine.reachability.of(unit), unit, nearest);
+                if (tile != Point.NONE) {
+                    engine.playerMove(unit, Point.x(tile), Point.y(tile));
+                }
+                target = target(state, unit);
+            }
+            if (target != Point.NONE) {
+                engine.playerAttack(unit, Point.x(target), Point.y(target));
+            }
+        }
+    }
+
+    /**
+     * target
+     * Finds the weakest enemy a unit can attack from where it stands.
+     * The enemies are read straight from the arrays of the {@link EntityStore}.
+     *
+     * @param state the game
+     * @param unit  the unit
+     * @return the packed coordinates of the enemy, or {@link Point#NONE} if no enemy is in range
+     */
+    private static int target(GameState state, Player unit) {
+        EntityStore entities = state.entities;
+        int x = unit.getX();
+        int y = unit.getY();
+        boolean ranged = unit.getAttackRange();
+        int target = Point.NONE;
+        int weakest = Integer.MAX_VALUE;
+        for (int i = 0; i < entities.enemyCount; i++) {
+            int id = entities.enemies[i];
+            int enemyX = Point.x(entities.coordinate[id]);
+            int enemyY = Point.y(entities.coordinate[id]);
+            boolean inRange;
+            if (ranged) {//ranged units attack along their row and column
+                inRange = enemyX == x || enemyY == y;
+            } else {
+                inRange = Distance.chebyshev(enemyX, enemyY, x, y) <= 1;
+            }
+            if (inRange && (target == Point.NONE || entities.health[id] < weakest)) {
+                target = entities.coordinate[id];
+                weakest = entities.health[id];
+            }
+        }
+        return target;
+    }
+
+    /**
+     * nearest
+     * Finds the enemy closest to a unit
+     *
+     * @param state the game
+     * @param unit  the unit
+     * @return the packed coordinates of the enemy, or {@link Point#NONE} if there are no enemies
+     */
+    private static int nearest(GameState state, Player unit) {
+        EntityStore entities = state.entities;
+        int nearest = Point.NONE;
+        int best = Integer.MAX_VALUE;
+        for (int i = 0; i < entities.enemyCount; i++) {
+            int enemy = entities.coordinate[entities.enemies[i]];
+            int distance = Distance.squared(Point.x(enemy), Point.y(enemy), unit.getX(), unit.getY());
+            if (distance < best) {
+                best = distance;
+                nearest = enemy;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * approach
+     * Finds the empty tile the unit can move to that is closest to an enemy
+     *
+     * @param state the game
+     * @param reach the tiles the unit can move to
+     * @param unit  the unit
+     * @param enemy the packed coordinates of the enemy to approach
+     * @return the packed coordinates of the tile, or {@link Point#NONE} if the unit cannot get closer
+     */
+    private static int approach(GameState state, BitBoard reach, Player unit, int enemy) {
+        int range = (int) unit.getMovementRange();
+        int enemyX = Point.x(enemy);
+        int enemyY = Point.y(enemy);
+        int best = Distance.squared(enemyX, enemyY, unit.getX(), unit.getY());
+        int tile = Point.NONE;
+        for (int y = unit.getY() - range; y <= unit.getY() + range; y++) {
+            for (int x = unit.getX() - range; x <= unit.getX() + range; x++) {
+                if (!reach.get(x, y) || !state.isEmpty(x, y)) {
+                    continue;
+                }
+                int distance = Distance.squared(enemyX, enemyY, x, y);
+                if (distance < best) {
+                    best = distance;
+                    tile = Point.pack(x, y);
+                }
+            }
+        }
+        return tile;
+    }
+}
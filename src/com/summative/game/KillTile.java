@@ -1,8 +1,5 @@
 package com.summative.game;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-
 /**
  * [KillTile.java]
  * This class creates an instance of the KillTile object.
@@ -23,6 +20,17 @@ public class KillTile extends Obstacle {
      * @param y the y coordinate
      */
     KillTile(int x, int y) {
-        super(x, y, new Texture(Gdx.files.internal("KillTile.png")));
+        super(x, y, "KillTile");
+    }
+
+    /**
+     * reset
+     * Moves a kill tile that was taken out of a {@link Pool} to its new tile
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     */
+    void reset(int x, int y) {
+        place(x, y);
     }
 }
@@ -0,0 +1,65 @@
+package com.summative.game;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+
+/**
+ * [LeakCheck.java]
+ * A debug check that fails when GL resources keep growing from frame to frame.
+ * Objects such as {@code ShapeRenderer} own a mesh and a shader program, so creating one every
+ * frame without disposing it shows up as a steady climb in the number of managed resources.
+ * A one-time allocation (e.g. when a screen is shown) is allowed; only growth that continues
+ * for {@value #FRAMES} frames in a row is reported.
+ * The check only runs in debug builds, i.e. when the application log level is {@code LOG_DEBUG}.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ */
+class LeakCheck {
+
+    static final int FRAMES = 3;
+
+    private final boolean enabled;
+    private int textures = -1;
+    private int shaders = -1;
+    private int growingFrames = 0;
+
+    /**
+     * LeakCheck Constructor
+     * The check is enabled only if the application is running with debug logging.
+     */
+    LeakCheck() {
+        enabled = Gdx.app != null && Gdx.app.getLogLevel() >= Application.LOG_DEBUG;
+    }
+
+    /**
+     * frame
+     * Compares the current number of GL resources with the previous frame.
+     * This runs at the end of every frame.
+     *
+     * @throws IllegalStateException if resources have grown for too many frames in a row
+     */
+    void frame() {
+        if (!enabled) {
+            return;
+        }
+
+        int currentTextures = Texture.getNumManagedTextures();
+        int currentShaders = ShaderProgram.getNumManagedShaderPrograms();
+        if (textures >= 0 && (currentTextures > textures || currentShaders > shaders)) {
+            growingFrames++;
+        } else {
+            growingFrames = 0;
+        }
+        textures = currentTextures;
+        shaders = currentShaders;
+
+        if (growingFrames >= FRAMES) {
+            throw new IllegalStateException("GL resources grew for " + growingFrames + " frames in a row (textures: "
+                  + currentTextures + ", shader programs: " + currentShaders + ")");
+        }
+    }
+}
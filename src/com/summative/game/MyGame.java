@@ -17,6 +17,27 @@ public class MyGame extends Game {
     SpriteBatch batch;
     ShapeRenderer shapeRenderer;
     BitmapFont font;
+    LeakCheck leakCheck;
+    final int boardSize;//number of tiles on each side of the board
+
+    /**
+     * MyGame Constructor
+     * Plays on the standard 8 by 8 board.
+     */
+    public MyGame() {
+        this(8);
+    }
+
+    /**
+     * MyGame Constructor
+     * Plays on a board of any size up to {@link GameState#MAX_SIZE}, for stress tests.
+     * Only the part of a large board that fits in the window is drawn.
+     *
+     * @param boardSize the number of tiles on each side of the board
+     */
+    public MyGame(int boardSize) {
+        this.boardSize = boardSize;
+    }
 
     /**
      * create
@@ -26,16 +47,30 @@ public class MyGame extends Game {
     public void create () {
         batch = new SpriteBatch();
         shapeRenderer = new ShapeRenderer();
+        shapeRenderer.setAutoShapeType(true);
         font = new BitmapFont();
+        leakCheck = new LeakCheck();
         setScreen(new TitleScreen(this));
     }
 
+    /**
+     * render
+     * Renders the current screen, then checks that no GL resources leaked during the frame.
+     */
+    @Override
+    public void render() {
+        super.render();
+        leakCheck.frame();
+    }
+
     /**
      * dispose
-     * Disposes the drawing tools.
+     * Disposes the drawing tools and every texture still loaded.
      */
     @Override
     public void dispose () {
+        super.dispose();
+        TextureCache.dispose();
         batch.dispose();
         shapeRenderer.dispose();
         font.dispose();
@@ -1,28 +1,64 @@
 package com.summative.game;
 
-import com.badlogic.gdx.graphics.Texture;
-
 /**
  * [Obstacle.java]
  * This class is the super class of all obstacles.
  * All obstacles can be damaged.
+ * Obstacles keep their own coordinate, as they are not kept in the {@link EntityStore}.
  *
  * @author Ayden Gao
  * @author Eric Miao
  * @version 4.3 2021/01/25
  */
 abstract class Obstacle extends GameObject {
+
+    private int coordinate;//position on the game board, see Point
+
     /**
      * Obstacle Constructor
      * The only constructor of the class.
      * In addition to {@link GameObject}, health value is also essential for this object.
      *
-     * @param x       the x coordinate
-     * @param y       the y coordinate
-     * @param texture the texture of the sprite
+     * @param x          the x coordinate
+     * @param y          the y coordinate
+     * @param spriteName the name of the sprite in the texture atlas
+     */
+    Obstacle(int x, int y, String spriteName) {
+        super(spriteName);
+        coordinate = Point.pack(x, y);
+    }
+
+    /**
+     * getX
+     * Returns the x coordinate of the obstacle
+     *
+     * @return an integer that represents the x coordinate
+     */
+    @Override
+    public int getX() {
+        return Point.x(coordinate);
+    }
+
+    /**
+     * getY
+     * Returns the y coordinate of the obstacle
+     *
+     * @return an integer that represents the y coordinate
      */
-    Obstacle(int x, int y, Texture texture) {
-        super(x, y, texture);
+    @Override
+    public int getY() {
+        return Point.y(coordinate);
+    }
+
+    /**
+     * getCoordinate
+     * Returns the coordinates of the obstacle
+     *
+     * @return the packed coordinates, see {@link Point}
+     */
+    @Override
+    public int getCoordinate() {
+        return coordinate;
     }
 
     /**
@@ -36,4 +72,16 @@ abstract class Obstacle extends GameObject {
     public void setCoordinate(int x, int y) {
         System.out.println("You cannot move this object");
     }
+
+    /**
+     * place
+     * Puts the obstacle on a new tile when it is reused. Unlike {@link #setCoordinate(int, int)},
+     * this is allowed, as the obstacle is not on the board at the time.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     */
+    final void place(int x, int y) {
+        coordinate = Point.pack(x, y);
+    }
 }
@@ -1,8 +1,5 @@
 package com.summative.game;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-
 /**
  * [Obstruction.java]
  * This class is an instance of an obstruction object.
@@ -27,7 +24,7 @@ class Obstruction extends Obstacle implements Damageable {
      * @param health the initial health value
      */
     Obstruction(int x, int y, int health) {
-        super(x, y, new Texture(Gdx.files.internal("Obstacle.png")));
+        super(x, y, "Obstacle");
         this.health = health;
     }
 
@@ -0,0 +1,277 @@
+package com.summative.game;
+
+/**
+ * [Pathfinder.java]
+ * Finds where a unit can move on the board and the way to a target.
+ * Units walk from tile to tile through empty tiles (up, down, left or right), so obstructions, kill tiles,
+ * spawn tiles and other units block the way. A tile is in range if the unit can walk to it without
+ * leaving the circle of its movement range.
+ *
+ * Searches reuse the same arrays. Instead of clearing them, every search has a new number and a tile
+ * only counts as visited if it is marked with the number of the current search.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ */
+class Pathfinder {
+
+    static final int[] DX = {1, -1, 0, 0};//right, left, up, down
+    static final int[] DY = {0, 0, 1, -1};
+    private static final int DETOUR = 64;//tiles a search may expand for each step between the start and the target
+
+    private final GameState state;
+    private final int size;
+
+    private final int[] queue;
+    private final int[] seen;//search number of the last search that reached each tile
+    private final int[] closed;//search number of the last search that expanded each tile
+    private final int[] cost;//steps from the start
+    private final int[] parent;//the tile each tile was reached from
+    private long[] heap = new long[64];//estimate, then steps from the start reversed, then the tile, see push(int, int, int)
+    private int heapSize;
+    private int search = 0;
+
+    /**
+     * Pathfinder Constructor
+     *
+     * @param state the game to search
+     */
+    Pathfinder(GameState state) {
+        this.state = state;
+        size = state.size;
+        int tiles = size * size;
+        queue = new int[tiles];
+        seen = new int[tiles];
+        closed = new int[tiles];
+        cost = new int[tiles];
+        parent = new int[tiles];
+    }
+
+    /**
+     * flood
+     * Finds every tile a unit can move to with a breadth first search.
+     * The tile of the unit is included, since staying is always possible.
+     *
+     * @param x            the x coordinate of the unit
+     * @param y            the y coordinate of the unit
+     * @param rangeSquared the movement range of the unit, squared, see {@link Distance#rangeSquared(double)}
+     * @param reach        the grid to store the tiles in, cleared first
+     */
+    void flood(int x, int y, int rangeSquared, BitBoard reach) {
+        search++;
+        reach.clear();
+        int start = state.index(x, y);
+        seen[start] = search;
+        reach.set(x, y);
+        queue[0] = start;
+        int head = 0;
+        int tail = 1;
+        while (head < tail) {
+            int tile = queue[head++];
+            int tx = state.indexX(tile);
+            int ty = state.indexY(tile);
+            for (int direction = 0; direction < 4; direction++) {
+                int nx = tx + DX[direction];
+                int ny = ty + DY[direction];
+                if (!Distance.inRange(nx, ny, x, y, rangeSquared)) {
+                    continue;
+                }
+                if (!state.isEmpty(nx, ny)) {
+                    continue;
+                }
+                int next = state.index(nx, ny);
+                if (seen[next] == search) {
+                    continue;
+                }
+                seen[next] = search;
+                reach.set(nx, ny);
+                queue[tail++] = next;
+            }
+        }
+    }
+
+    /**
+     * moveToward
+     * Chooses where a unit moves to get closer to a target. The unit follows the shortest way to a tile
+     * next to the target as far as its range allows. If there is no way, it moves to the tile in range
+     * that is closest to the target.
+     *
+     * @param unit   the unit
+     * @param target the packed coordinates of the object the unit is going to
+     * @param reach  the tiles the unit can move to
+     * @return the packed coordinates of a tile in range, the tile of the unit if it cannot get closer
+     */
+    int moveToward(Entity unit, int target, BitBoard reach) {
+        int targetX = Point.x(target);
+        int targetY = Point.y(target);
+        int goal = findPath(unit.getX(), unit.getY(), targetX, targetY);
+        if (goal >= 0) {
+            for (int tile = goal; tile != -1; tile = parent[tile]) {//from the end of the path back to the unit
+                if (reach.get(state.indexX(tile), state.indexY(tile))) {
+                    return Point.pack(state.indexX(tile), state.indexY(tile));
+                }
+            }
+        }
+
+        int range = (int) unit.getMovementRange();
+        int bestX = unit.getX();
+        int bestY = unit.getY();
+        int best = Integer.MAX_VALUE;
+        for (int y = unit.getY() - range; y <= unit.getY() + range; y++) {
+            for (int x = unit.getX() - range; x <= unit.getX() + range; x++) {
+                if (!reach.get(x, y)) {
+                    continue;
+                }
+                int distance = Distance.squared(targetX, targetY, x, y);
+                if (distance < best) {
+                    best = distance;
+                    bestX = x;
+                    bestY = y;
+                }
+            }
+        }
+        return Point.pack(bestX, bestY);
+    }
+
+    /**
+     * findPath
+     * Finds the shortest way from a tile to a tile next to a target with an A* search.
+     * The path can be followed backwards from the returned tile with {@code parent}.
+     * A target that cannot be reached would make the search visit every tile it can get to, which is slow
+     * on large boards, so the search gives up early if the target is surrounded or the way is too long.
+     *
+     * @param fromX   the x coordinate of the start
+     * @param fromY   the y coordinate of the start
+     * @param targetX the x coordinate of the target
+     * @param targetY the y coordinate of the target
+     * @return the tile next to the target at the end of the path, or -1 if the target cannot be reached
+     */
+    int findPath(int fromX, int fromY, int targetX, int targetY) {
+        int distance = Distance.manhattan(fromX, fromY, targetX, targetY);
+        if (distance != 1 && !surroundingEmpty(targetX, targetY)) {
+            return -1;
+        }
+        int expansions = DETOUR * (distance + 1);
+
+        search++;
+        heapSize = 0;
+        int start = state.index(fromX, fromY);
+        seen[start] = search;
+        cost[start] = 0;
+        parent[start] = -1;
+        push(estimate(fromX, fromY, targetX, targetY), 0, start);
+
+        while (heapSize > 0) {
+            int tile = pop();
+            if (closed[tile] == search) {//already expanded from a shorter path
+                continue;
+            }
+            closed[tile] = search;
+            if (--expansions < 0) {
+                return -1;
+            }
+            int tx = state.indexX(tile);
+            int ty = state.indexY(tile);
+            if (Distance.adjacent(tx, ty, targetX, targetY)) {
+                return tile;
+            }
+
+            for (int direction = 0; direction < 4; direction++) {
+                int nx = tx + DX[direction];
+                int ny = ty + DY[direction];
+                if (!state.isEmpty(nx, ny)) {
+                    continue;
+                }
+                int next = state.index(nx, ny);
+                int nextCost = cost[tile] + 1;
+                if (seen[next] != search || nextCost < cost[next]) {
+                    seen[next] = search;
+                    cost[next] = nextCost;
+                    parent[next] = tile;
+                    push(nextCost + estimate(nx, ny, targetX, targetY), nextCost, next);
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * surroundingEmpty
+     * Checks if a tile has an empty tile next to it
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return true if one of the four tiles next to it is empty, false otherwise
+     */
+    private boolean surroundingEmpty(int x, int y) {
+        return state.isEmpty(x + 1, y) || state.isEmpty(x - 1, y) || state.isEmpty(x, y + 1) || state.isEmpty(x, y - 1);
+    }
+
+    /**
+     * estimate
+     * Estimates the number of steps left to a tile next to the target without overestimating
+     *
+     * @param x       the x coordinate
+     * @param y       the y coordinate
+     * @param targetX the x coordinate of the target
+     * @param targetY the y coordinate of the target
+     * @return the estimate
+     */
+    private static int estimate(int x, int y, int targetX, int targetY) {
+        return Math.max(0, Distance.manhattan(x, y, targetX, targetY) - 1);
+    }
+
+    /**
+     * push
+     * Adds a tile to the heap of the A* search.
+     * Between tiles with the same estimate, the one furthest from the start comes first, so the search
+     * goes straight for the target on open ground instead of widening to every tile with the same estimate.
+     *
+     * @param priority the estimated length of the path through the tile
+     * @param cost     the number of steps from the start to the tile
+     * @param tile     the tile
+     */
+    private void push(int priority, int cost, int tile) {
+        if (heapSize == heap.length) {
+            long[] grown = new long[heap.length * 2];
+            System.arraycopy(heap, 0, grown, 0, heapSize);
+            heap = grown;
+        }
+        long entry = (long) priority << 40 | (long) (0xFFFFF - cost) << 20 | tile;//tiles and costs fit in 20 bits on a 512 board
+        int i = heapSize++;
+        while (i > 0 && heap[(i - 1) >>> 1] > entry) {
+            heap[i] = heap[(i - 1) >>> 1];
+            i = (i - 1) >>> 1;
+        }
+        heap[i] = entry;
+    }
+
+    /**
+     * pop
+     * Removes the tile with the lowest priority from the heap
+     *
+     * @return the tile
+     */
+    private int pop() {
+        long top = heap[0];
+        long last = heap[--heapSize];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (heap[child] >= last) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = last;
+        return (int) (top & 0xFFFFF);
+    }
+}
@@ -1,7 +1,5 @@
 package com.summative.game;
 
-import com.badlogic.gdx.graphics.Texture;
-
 /**
  * [Player.java]
  * This class is the super class of all player units.
@@ -13,25 +11,22 @@ import com.badlogic.gdx.graphics.Texture;
  */
 abstract class Player extends Entity {
 
-    private final int knockback;
-    private boolean moved;
-    private boolean attacked;
-
     /**
      * Player Constructor
      * Contains all the essential information to create a player object.
      *
+     * @param store         the store that holds the data of the unit
      * @param x             the x coordinate
      * @param y             the y coordinate
-     * @param texture       the texture of the sprite
+     * @param spriteName    the name of the sprite in the texture atlas
      * @param health        the initial health value
      * @param movementRange the range of movement
      * @param attackRange   the attack range
      * @param knockback     the tiles for knockback
      */
-    Player(int x, int y, Texture texture, int health, double movementRange, boolean attackRange, int knockback) {
-        super(x, y, texture, health, movementRange, attackRange);
-        this.knockback = knockback;
+    Player(EntityStore store, int x, int y, String spriteName, int health, double movementRange, boolean attackRange, int knockback) {
+        super(store, x, y, spriteName, health, movementRange, attackRange);
+        store.knockback[id] = knockback;
     }
 
     /**
@@ -41,7 +36,7 @@ abstract class Player extends Entity {
      * @return true if the unit has moved, false otherwise
      */
     public boolean isMoved() {
-        return moved;
+        return (store.flags[id] & EntityStore.MOVED) != 0;
     }
 
     /**
@@ -51,7 +46,7 @@ abstract class Player extends Entity {
      * @param moved true if the player moves, false when the turn ends
      */
     public void setMoved(boolean moved) {
-        this.moved = moved;
+        setFlag(EntityStore.MOVED, moved);
     }
 
     /**
@@ -61,7 +56,7 @@ abstract class Player extends Entity {
      * @return true if the unit has attacked, false otherwise
      */
     public boolean isAttacked() {
-        return attacked;
+        return (store.flags[id] & EntityStore.ATTACKED) != 0;
     }
 
     /**
@@ -71,7 +66,7 @@ abstract class Player extends Entity {
      * @param attacked true if the player attacks, false when the turn ends
      */
     public void setAttacked(boolean attacked) {
-        this.attacked = attacked;
+        setFlag(EntityStore.ATTACKED, attacked);
     }
 
     /**
@@ -81,6 +76,21 @@ abstract class Player extends Entity {
      * @return the knockback
      */
     public int getKnockback() {
-        return knockback;
+        return store.knockback[id];
+    }
+
+    /**
+     * setFlag
+     * Sets or clears a flag of the unit in the store
+     *
+     * @param flag  the flag
+     * @param value true to set the flag, false to clear it
+     */
+    private void setFlag(byte flag, boolean value) {
+        if (value) {
+            store.flags[id] |= flag;
+        } else {
+            store.flags[id] &= ~flag;
+        }
     }
 }
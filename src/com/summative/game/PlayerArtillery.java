@@ -1,8 +1,5 @@
 package com.summative.game;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-
 /**
  * [PlayerArtillery.java]
  * An object representing a ranged unit of the {@link Player} side.
@@ -14,12 +11,11 @@ import com.badlogic.gdx.graphics.Texture;
  */
 public class PlayerArtillery extends Player implements Attackable {
 
-    private final int attackDamage;
-
     /**
      * PlayerArtillery Constructor
      * Contains all the essential information to create a unit.
      *
+     * @param store         the store that holds the data of the unit
      * @param x             x position
      * @param y             y position
      * @param health        health
@@ -28,9 +24,9 @@ public class PlayerArtillery extends Player implements Attackable {
      * @param attackDamage  the damage of the attack
      * @param knockback     the knockback
      */
-    PlayerArtillery(int x, int y, int health, double movementRange, boolean attackRange, int attackDamage, int knockback) {
-        super(x, y, new Texture(Gdx.files.internal("PlayerArtillary.png")), health, movementRange, attackRange, knockback);
-        this.attackDamage = attackDamage;
+    PlayerArtillery(EntityStore store, int x, int y, int health, double movementRange, boolean attackRange, int attackDamage, int knockback) {
+        super(store, x, y, "PlayerArtillary", health, movementRange, attackRange, knockback);
+        store.damage[id] = attackDamage;
     }
 
     /**
@@ -41,7 +37,7 @@ public class PlayerArtillery extends Player implements Attackable {
      */
     @Override
     public int attack() {
-        return attackDamage;
+        return store.damage[id];
     }
 }
 
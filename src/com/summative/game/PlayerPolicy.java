@@ -0,0 +1,31 @@
+package com.summative.game;
+
+/**
+ * [PlayerPolicy.java]
+ * Plays the side of the player without a screen, so whole games can be simulated.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ * @see Simulator
+ */
+interface PlayerPolicy {
+
+    /**
+     * place
+     * Chooses the tile of the next unit during the placement phase
+     *
+     * @param state the game
+     * @return the packed coordinates of an empty tile, or {@link Point#NONE} if the board is full
+     */
+    int place(GameState state);
+
+    /**
+     * playTurn
+     * Moves and attacks with the player units for one turn. The engine ends the turn afterwards.
+     *
+     * @param state  the game
+     * @param engine the rules to play with
+     */
+    void playTurn(GameState state, GameEngine engine);
+}
@@ -1,8 +1,5 @@
 package com.summative.game;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-
 /**
  * [PlayerSupport.java]
  * An object representing a support unit of the {@link Player} side.
@@ -18,6 +15,7 @@ public class PlayerSupport extends Player {
      * PlayerSupport constructor
      * Contains all the essential information to create a unit.
      *
+     * @param store         the store that holds the data of the unit
      * @param x             the x coordinate
      * @param y             teh y coordinate
      * @param health        health of object
@@ -25,7 +23,7 @@ public class PlayerSupport extends Player {
      * @param attackRange   the attack range of object
      * @param knockback     the knockback
      */
-    PlayerSupport(int x, int y, int health, double movementRange, boolean attackRange, int knockback) {
-        super(x, y, new Texture(Gdx.files.internal("PlayerSupport.png")), health, movementRange, attackRange, knockback);
+    PlayerSupport(EntityStore store, int x, int y, int health, double movementRange, boolean attackRange, int knockback) {
+        super(store, x, y, "PlayerSupport", health, movementRange, attackRange, knockback);
     }
 }
@@ -1,8 +1,5 @@
 package com.summative.game;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-
 /**
  * [PlayerWarrior.java]
  * An object representing an infantry unit of the {@link Player} side.
@@ -14,12 +11,11 @@ import com.badlogic.gdx.graphics.Texture;
  */
 public class PlayerWarrior extends Player implements Attackable {
 
-    private final int attackDamage;
-
     /**
      * PlayerWarrior Constructor
      * Contains all the essential information to create a unit.
      *
+     * @param store         the store that holds the data of the unit
      * @param x             x position
      * @param y             y position
      * @param health        health
@@ -28,9 +24,9 @@ public class PlayerWarrior extends Player implements Attackable {
      * @param attackDamage  the damage of the attack
      * @param knockback     the knockback
      */
-    PlayerWarrior(int x, int y, int health, double movementRange, boolean attackRange, int attackDamage, int knockback) {
-        super(x, y, new Texture(Gdx.files.internal("PlayerWarrior.png")), health, movementRange, attackRange, knockback);
-        this.attackDamage = attackDamage;
+    PlayerWarrior(EntityStore store, int x, int y, int health, double movementRange, boolean attackRange, int attackDamage, int knockback) {
+        super(store, x, y, "PlayerWarrior", health, movementRange, attackRange, knockback);
+        store.damage[id] = attackDamage;
     }
 
     /**
@@ -41,6 +37,6 @@ public class PlayerWarrior extends Player implements Attackable {
      */
     @Override
     public int attack() {
-        return attackDamage;
+        return store.damage[id];
     }
 }
@@ -2,79 +2,68 @@ package com.summative.game;
 
 /**
  * [Point.java]
- * A class that stores a set of coordinate.
+ * Coordinates packed into a single {@code int}, the x coordinate in the low 16 bits and the y coordinate
+ * in the high 16 bits. A packed coordinate is a plain value, so passing, storing and comparing coordinates
+ * does not create objects. Boards are at most {@link GameState#MAX_SIZE} tiles wide, so both halves fit.
+ * {@link #NONE} stands for no coordinate, for example when an enemy does not attack.
  *
  * @author Ayden Gao
  * @author Eric Miao
  * @version 4.3 2021/01/25
  */
-public class Point {
+public final class Point {
 
-    private int x, y;
+    static final int NONE = -1;//no coordinate
 
     /**
      * Point Constructor
-     * Sets the coordinate to the coordinate of a specified {@code Point}
-     *
-     * @param point the Point object
-     */
-    Point(Point point) {
-        x = point.getX();
-        y = point.getY();
-    }
-
-    /**
-     * Point Constructor
-     * Sets the coordinate to a specified coordinate
-     *
-     * @param x the x coordinate
-     * @param y the y coordinate
+     * This class only has static methods.
      */
-    Point(int x, int y) {
-        this.x = x;
-        this.y = y;
+    private Point() {
     }
 
     /**
-     * move
-     * Update the coordinate
+     * pack
+     * Packs a coordinate into an int
      *
-     * @param x the updated x coordinate
-     * @param y the updated y coordinate
+     * @param x the x coordinate, between 0 and 65535
+     * @param y the y coordinate, between 0 and 32767
+     * @return the packed coordinate
      */
-    public void move(int x, int y) {
-        this.x = x;
-        this.y = y;
+    static int pack(int x, int y) {
+        return y << 16 | x;
     }
 
     /**
-     * getX
-     * Getter for x variable
+     * x
+     * Gets the x coordinate of a packed coordinate
      *
+     * @param point the packed coordinate
      * @return the x value
      */
-    public int getX() {
-        return x;
+    static int x(int point) {
+        return point & 0xFFFF;
     }
 
     /**
-     * getY
-     * Getter for y variable
+     * y
+     * Gets the y coordinate of a packed coordinate
      *
+     * @param point the packed coordinate
      * @return the y value
      */
-    public int getY() {
-        return y;
+    static int y(int point) {
+        return point >>> 16;
     }
 
     /**
      * toString
      * For debugging: prints the coordinates to console
      *
+     * @param point the packed coordinate
      * @return String that contains the coordinates
      */
-    @Override
-    public String toString() {
-        return (x + " " + y);
+    static String toString(int point) {
+        return point == NONE ? "none" : x(point) + " " + y(point);
     }
 }
@@ -0,0 +1,68 @@
+package com.summative.game;
+
+/**
+ * [Pool.java]
+ * Keeps objects that are no longer used, so they can be reset and used again instead of creating new ones.
+ * Enemies, spawn tiles and kill tiles come and go every round, and reusing them means the rounds
+ * after the first few create no garbage for the collector to pause on.
+ * An object must not be used after it is freed, until it is obtained again.
+ * Each object knows if it is in a pool, so freeing it twice is caught instead of
+ * handing the same object out to two users later.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ * @param <T> the type of the objects
+ */
+class Pool<T extends GameObject> {
+
+    private Object[] items = new Object[16];
+    private int size = 0;
+
+    /**
+     * obtain
+     * Takes an object out of the pool. The object still has the state it had when it was freed.
+     *
+     * @return an object, or null if the pool is empty
+     */
+    @SuppressWarnings("unchecked")
+    T obtain() {
+        if (size == 0) {
+            return null;
+        }
+        T item = (T) items[--size];
+        items[size] = null;
+        item.pooled = false;
+        return item;
+    }
+
+    /**
+     * free
+     * Puts an object in the pool
+     *
+     * @param item the object
+     * @throws IllegalStateException if the object is already in a pool
+     */
+    void free(T item) {
+        if (item.pooled) {
+            throw new IllegalStateException("Object freed twice: " + item.getSpriteName() + " at " + Point.toString(item.getCoordinate()));
+        }
+        item.pooled = true;
+        if (size == items.length) {
+            Object[] grown = new Object[items.length * 2];
+            System.arraycopy(items, 0, grown, 0, size);
+            items = grown;
+        }
+        items[size++] = item;
+    }
+
+    /**
+     * size
+     * Gets the number of objects in the pool
+     *
+     * @return the number of objects
+     */
+    int size() {
+        return size;
+    }
+}
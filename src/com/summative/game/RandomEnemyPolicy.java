@@ -0,0 +1,41 @@
+package com.summative.game;
+
+/**
+ * [RandomEnemyPolicy.java]
+ * Enemies that attack a random player unit or vital they can reach, or walk toward the closest one
+ * if they cannot reach any. This is how the enemies have always played.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ */
+class RandomEnemyPolicy implements EnemyPolicy {
+
+    final Rng random;
+
+    /**
+     * RandomEnemyPolicy Constructor
+     *
+     * @param random the random number generator of the game
+     */
+    RandomEnemyPolicy(Rng random) {
+        this.random = random;
+    }
+
+    /**
+     * choose
+     * Chooses a random move among the ones that attack something
+     *
+     * @param engine the rules to play with
+     * @param enemy  the enemy to move
+     * @return the move, see {@link GameEngine#option(int, int)}
+     */
+    @Override
+    public long choose(GameEngine engine, Enemy enemy) {
+        int count = engine.enemyOptions(enemy);
+        if (count == 0) {
+            return engine.getOption(0);
+        }
+        return engine.getOption(random.nextInt(count));
+    }
+}
@@ -0,0 +1,84 @@
+package com.summative.game;
+
+/**
+ * [RandomPlayerPolicy.java]
+ * A player that places its units on random tiles, moves each unit to a random tile in range
+ * and attacks a random tile in range. It is the baseline the other policies are compared with.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ */
+class RandomPlayerPolicy implements PlayerPolicy {
+
+    final Rng random;
+
+    /**
+     * RandomPlayerPolicy Constructor
+     *
+     * @param random the random number generator of the game
+     */
+    RandomPlayerPolicy(Rng random) {
+        this.random = random;
+    }
+
+    /**
+     * place
+     * Chooses a random empty tile
+     *
+     * @param state the game
+     * @return the packed coordinates of an empty tile, or {@link Point#NONE} if the board is full
+     */
+    @Override
+    public int place(GameState state) {
+        int tile = state.randomEmpty(random);
+        if (tile < 0) {
+            return Point.NONE;
+        }
+        return Point.pack(state.indexX(tile), state.indexY(tile));
+    }
+
+    /**
+     * playTurn
+     * Moves every unit to a random tile, then attacks a random tile with it
+     *
+     * @param state  the game
+     * @param engine the rules to play with
+     */
+    @Override
+    public void playTurn(GameState state, GameEngine engine) {
+        for (Player unit : units(state)) {
+            if (state.playerList.indexOf(unit) < 0) {//killed by another unit this turn
+                continue;
+            }
+            int range = (int) unit.getMovementRange();
+            int x = unit.getX() + random.nextInt(2 * range + 1) - range;
+            int y = unit.getY() + random.nextInt(2 * range + 1) - range;
+            if (state.isEmpty(x, y) || (state.inBounds(x, y) && state.get(x, y) instanceof SpawnTile)) {
+                engine.playerMove(unit, x, y);
+            }
+
+            x = unit.getX() + random.nextInt(3) - 1;
+            y = unit.getY() + random.nextInt(3) - 1;
+            if (state.inBounds(x, y)) {
+                engine.playerAttack(unit, x, y);
+            }
+        }
+    }
+
+    /**
+     * units
+     * Copies the player units, since units can be removed from the list while they act
+     *
+     * @param state the game
+     * @return the player units
+     */
+    static Player[] units(GameState state) {
+        Player[] units = new Player[state.playerList.size()];
+        int i = 0;
+        for (Player unit : state.playerList) {
+            units[i++] = unit;
+        }
+        return units;
+    }
+}
@@ -0,0 +1,118 @@
+package com.summative.game;
+
+/**
+ * [Reachability.java]
+ * Remembers the tiles each unit can move to, so moving a unit, highlighting its range and choosing
+ * the moves of the enemies all read the same grid instead of measuring distances again.
+ * A unit is filled in the first time it is asked for, and the result is kept until the board changes.
+ * Damage and other changes that do not touch the board keep the results.
+ *
+ * Enemies walk, so their grid is a flood fill around obstacles. Player units keep the original rule of the game:
+ * they can move to any empty tile or spawn tile within their movement range, even if it is behind other objects.
+ *
+ * The grids are kept by the id of the unit, see {@link EntityStore}, so finding the grid of a unit takes constant time.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ * @see Pathfinder#flood(int, int, int, BitBoard)
+ */
+class Reachability {
+
+    /**
+     * [Entry]
+     * The tiles one unit can move to, and the board they were found on
+     */
+    private static final class Entry {
+        Entity unit;//the unit the grid was filled for, as ids are used again by pooled units
+        int x;
+        int y;
+        int boardChanges;//board change counter of the state when the grid was filled
+        final BitBoard reach;
+
+        /**
+         * Entry Constructor
+         *
+         * @param size the number of tiles on each side of the board
+         */
+        Entry(int size) {
+            reach = new BitBoard(size);
+        }
+    }
+
+    private final GameState state;
+    private final Pathfinder pathfinder;
+    private Entry[] entries = new Entry[16];//indexed by the id of the unit
+
+    /**
+     * Reachability Constructor
+     *
+     * @param state      the game
+     * @param pathfinder the pathfinder that floods the board
+     */
+    Reachability(GameState state, Pathfinder pathfinder) {
+        this.state = state;
+        this.pathfinder = pathfinder;
+    }
+
+    /**
+     * of
+     * Gets the tiles a unit can move to, including its own tile.
+     * Players can also move onto a spawn tile to block it.
+     * The grid belongs to the cache and must not be changed.
+     *
+     * @param unit the unit
+     * @return the tiles the unit can move to
+     */
+    BitBoard of(Entity unit) {
+        int id = unit.id;
+        if (id >= entries.length) {
+            Entry[] grown = new Entry[Math.max(entries.length * 2, id + 1)];
+            System.arraycopy(entries, 0, grown, 0, entries.length);
+            entries = grown;
+        }
+        Entry entry = entries[id];
+        if (entry == null) {
+            entry = new Entry(state.size);
+            entries[id] = entry;
+        }
+
+        int boardChanges = state.getBoardChanges();
+        if (entry.boardChanges == boardChanges && entry.unit == unit && entry.x == unit.getX() && entry.y == unit.getY()) {
+            return entry.reach;
+        }
+        entry.unit = unit;
+        entry.x = unit.getX();
+        entry.y = unit.getY();
+        entry.boardChanges = boardChanges;
+        if (unit instanceof Player) {
+            fillRange(unit, entry.reach);
+        } else {
+            pathfinder.flood(unit.getX(), unit.getY(), unit.getMovementRangeSquared(), entry.reach);
+        }
+        return entry.reach;
+    }
+
+    /**
+     * fillRange
+     * Finds the empty tiles and spawn tiles within the movement range of a unit, whatever is in between
+     *
+     * @param unit  the unit
+     * @param reach the grid to fill
+     */
+    private void fillRange(Entity unit, BitBoard reach) {
+        reach.clear();
+        int unitX = unit.getX();
+        int unitY = unit.getY();
+        int range = (int) unit.getMovementRange();
+        int rangeSquared = unit.getMovementRangeSquared();
+        for (int y = Math.max(0, unitY - range); y <= Math.min(state.size - 1, unitY + range); y++) {
+            for (int x = Math.max(0, unitX - range); x <= Math.min(state.size - 1, unitX + range); x++) {
+                if (Distance.inRange(x, y, unitX, unitY, rangeSquared) && (!state.occupied.get(x, y) || state.spawnTiles.get(x, y))) {
+                    reach.set(x, y);
+                }
+            }
+        }
+        reach.set(unitX, unitY);
+    }
+}
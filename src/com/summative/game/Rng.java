@@ -0,0 +1,115 @@
+package com.summative.game;
+
+/**
+ * [Rng.java]
+ * The random number generator of a game, using the xoshiro256** algorithm.
+ * The four words of state are filled from the seed with SplitMix64, so a game played again
+ * from the same seed makes exactly the same decisions. This allows games to be replayed and compared.
+ * It is faster than {@link java.util.Random} and is not synchronized, so each game needs its own instance.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ */
+class Rng {
+
+    private final long seed;
+    private long s0, s1, s2, s3;
+
+    /**
+     * Rng Constructor
+     * Creates a generator with a seed based on the current time
+     */
+    Rng() {
+        this(System.nanoTime() ^ System.currentTimeMillis() << 20);
+    }
+
+    /**
+     * Rng Constructor
+     * Creates a generator from a seed
+     *
+     * @param seed the seed
+     */
+    Rng(long seed) {
+        this.seed = seed;
+        long x = seed;
+        s0 = splitMix(x += 0x9E3779B97F4A7C15L);
+        s1 = splitMix(x += 0x9E3779B97F4A7C15L);
+        s2 = splitMix(x += 0x9E3779B97F4A7C15L);
+        s3 = splitMix(x + 0x9E3779B97F4A7C15L);
+    }
+
+    /**
+     * getSeed
+     * Gets the seed the generator was created with
+     *
+     * @return the seed
+     */
+    long getSeed() {
+        return seed;
+    }
+
+    /**
+     * nextLong
+     * Gets the next 64 random bits
+     *
+     * @return a random long
+     */
+    long nextLong() {
+        long result = Long.rotateLeft(s1 * 5, 7) * 9;
+        long t = s1 << 17;
+        s2 ^= s0;
+        s3 ^= s1;
+        s1 ^= s2;
+        s0 ^= s3;
+        s2 ^= t;
+        s3 = Long.rotateLeft(s3, 45);
+        return result;
+    }
+
+    /**
+     * nextInt
+     * Gets a random integer between 0 (inclusive) and a bound (exclusive), with every value equally likely
+     *
+     * @param bound the bound, must be positive
+     * @return a random integer
+     * @throws IllegalArgumentException if the bound is not positive
+     */
+    int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+        //multiply and shift instead of dividing, and draw again in the rare cases that would be biased
+        long product = (nextLong() >>> 32) * bound;
+        if ((product & 0xFFFFFFFFL) < bound) {
+            long threshold = (0x100000000L - bound) % bound;
+            while ((product & 0xFFFFFFFFL) < threshold) {
+                product = (nextLong() >>> 32) * bound;
+            }
+        }
+        return (int) (product >>> 32);
+    }
+
+    /**
+     * nextBoolean
+     * Gets a random boolean
+     *
+     * @return true or false, equally likely
+     */
+    boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    /**
+     * splitMix
+     * Scrambles a number with the SplitMix64 finalizer
+     *
+     * @param z the number
+     * @return the scrambled number
+     */
+    private static long splitMix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,405 @@
+package com.summative.game;
+
+import java.util.Arrays;
+
+/**
+ * [SearchEnemyPolicy.java]
+ * Enemies that look ahead before they move. The enemy choosing its move, the enemies after it in the
+ * enemy list and then the player units each take one ply, and every ply tries the moves of one unit.
+ * The enemies choose among the moves of {@link GameEngine#enemyOptions(Enemy)} and maximize the score,
+ * and each player unit replies with the move that minimizes it: staying, moving out of an attacked tile to the
+ * tile with the least threat on the {@link ThreatMap}, or killing an enemy before its attack goes off.
+ * The score is the damage the planned attacks would deal, with vitals worth the most.
+ *
+ * The moves are made on the board and undone afterwards, so the state is never copied. Each move is undone
+ * by the opposite move, which gives every empty tile back its old place in the set of empty tiles,
+ * so searching does not change where things are placed later in the game.
+ * The search is repeated one ply deeper at a time until the whole turn is searched, the depth limit is
+ * reached or the budget runs out. The move from the last search that finished is used, so the enemy always has a move.
+ * The node budget counts the positions searched, so a seed always gives the same game. The time budget
+ * keeps the engine from waiting much longer than it allows, but when it runs out before the node budget,
+ * the move depends on the speed of the computer. {@link GameScreen} sets both, so a seeded game on the screen
+ * can still play out differently on a slow computer. The simulator only sets a time budget when asked to.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ * @see GameEngine#moveEnemy(Enemy, long)
+ */
+class SearchEnemyPolicy implements EnemyPolicy {
+
+    //Score of an attack, for each point of damage and for a kill
+    static final int VITAL_DAMAGE = 4;
+    static final int VITAL_KILL = 10;
+    static final int PLAYER_DAMAGE = 2;
+    static final int PLAYER_KILL = 5;
+    static final int ENEMY_DAMAGE = -2;//an enemy hit by another enemy
+    static final int OBSTRUCTION_DAMAGE = 1;
+
+    private final int maxDepth;
+    private final long nodeBudget;//positions, 0 for no limit
+    private final long budget;//nanoseconds, 0 for no limit
+
+    private GameEngine engine;
+    private GameState state;
+    private int first;//index in the enemy list of the enemy choosing its move
+    private int enemyPlies;//the enemy choosing and the enemies after it
+    private int plies;//enemy plies and one ply for each player unit
+    private long nodes;//positions left to search
+    private long deadline;
+    private boolean outOfTime;//the node budget or the time budget ran out
+    private boolean cut;//a line of the search stopped before the end of the turn
+
+    private long[][] moves = new long[8][8];//moves of the enemy of each ply
+    private int[][] kills = new int[8][8];//enemies a player unit can kill, for each ply
+    private int[] damageAt = new int[0];//damage planned on each tile, see evaluate(int)
+    private int[] stamp = new int[0];
+    private int pass = 0;
+
+    /**
+     * SearchEnemyPolicy Constructor
+     *
+     * @param maxDepth   the number of plies to search at most
+     * @param nodeBudget the number of positions the search may visit for each enemy, or 0 for no limit
+     * @param budget     the time the search may take for each enemy in milliseconds, or 0 for no limit
+     */
+    SearchEnemyPolicy(int maxDepth, long nodeBudget, long budget) {
+        this.maxDepth = maxDepth;
+        this.nodeBudget = nodeBudget;
+        this.budget = budget * 1000000;
+    }
+
+    /**
+     * choose
+     * Searches deeper and deeper for the best move of the enemy until the budget runs out
+     *
+     * @param engine the rules to play with
+     * @param enemy  the enemy to move
+     * @return the move, see {@link GameEngine#option(int, int)}
+     */
+    @Override
+    public long choose(GameEngine engine, Enemy enemy) {
+        this.engine = engine;
+        state = engine.state;
+        first = state.enemyList.indexOf(enemy);
+        enemyPlies = state.enemyList.size() - first;
+        plies = enemyPlies + state.playerList.size();
+        if (moves.length <= plies) {
+            moves = Arrays.copyOf(moves, plies + 1);
+            kills = Arrays.copyOf(kills, plies + 1);
+        }
+        if (stamp.length != state.size * state.size) {
+            damageAt = new int[state.size * state.size];
+            stamp = new int[state.size * state.size];
+        }
+
+        int count = generate(0, enemy);
+        long best = moves[0][0];
+        if (count == 1) {
+            return best;
+        }
+        nodes = nodeBudget > 0 ? nodeBudget : Long.MAX_VALUE;
+        deadline = budget > 0 ? System.nanoTime() + budget : Long.MAX_VALUE;
+        outOfTime = false;
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            cut = false;
+            long bestAtDepth = best;
+            int bestScore = Integer.MIN_VALUE;
+            for (int i = -1; i < count; i++) {//the best move of the last search goes first
+                long move = i < 0 ? best : moves[0][i];
+                if (i >= 0 && move == best) {
+                    continue;
+                }
+                long undo = GameEngine.option(enemy.getCoordinate(), enemy.getAttack());
+                engine.moveEnemy(enemy, move);
+                int score = search(1, depth - 1, bestScore, Integer.MAX_VALUE);
+                engine.moveEnemy(enemy, undo);
+                if (outOfTime) {
+                    break;
+                }
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestAtDepth = move;
+                }
+            }
+            if (outOfTime) {
+                break;
+            }
+            best = bestAtDepth;
+            if (!cut) {//the whole turn was searched
+                break;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * search
+     * Finds the score of the best line from a ply, with alpha-beta pruning
+     *
+     * @param ply   the ply, enemies first and then player units
+     * @param depth the number of plies left to search
+     * @param alpha the score the enemies are already sure of
+     * @param beta  the score the player is already sure of
+     * @return the score, or 0 if the budget ran out
+     */
+    private int search(int ply, int depth, int alpha, int beta) {
+        if (--nodes < 0 || System.nanoTime() > deadline) {
+            outOfTime = true;
+            return 0;
+        }
+        if (ply == plies) {
+            return evaluate(ply);
+        }
+        if (depth == 0) {
+            cut = true;
+            return evaluate(ply);
+        }
+        if (ply >= enemyPlies) {
+            return reply(state.playerList.get(ply - enemyPlies), ply, depth, alpha, beta);
+        }
+
+        Enemy enemy = state.enemyList.get(first + ply);
+        int count = generate(ply, enemy);
+        long undo = GameEngine.option(enemy.getCoordinate(), enemy.getAttack());
+        int best = Integer.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            engine.moveEnemy(enemy, moves[ply][i]);
+            int score = search(ply + 1, depth - 1, alpha, beta);
+            engine.moveEnemy(enemy, undo);
+            if (outOfTime) {
+                return 0;
+            }
+            best = Math.max(best, score);
+            alpha = Math.max(alpha, score);
+            if (alpha >= beta) {
+                break;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * reply
+     * Finds the score after the best reply of a player unit: killing an enemy that is going to attack,
+     * moving out of the way of an attack, or staying. Knockback is not taken into account.
+     *
+     * @param unit  the player unit
+     * @param ply   the ply
+     * @param depth the number of plies left to search
+     * @param alpha the score the enemies are already sure of
+     * @param beta  the score the player is already sure of
+     * @return the score, or 0 if the budget ran out
+     */
+    private int reply(Player unit, int ply, int depth, int alpha, int beta) {
+        //the reachable tiles are read before searching deeper, as the cache reuses its grids once the board changes
+        BitBoard reach = engine.reachability.of(unit);
+        int damage = unit instanceof Attackable ? ((Attackable) unit).attack() : 0;
+        if (kills[ply] == null) {
+            kills[ply] = new int[8];
+        }
+        int killCount = 0;
+        for (int i = 0; damage > 0 && i < state.enemyList.size(); i++) {
+            Enemy enemy = state.enemyList.get(i);
+            if (enemy.hasAttack() && enemy.getHealth() <= damage && canHit(unit, reach, enemy)) {
+                if (killCount == kills[ply].length) {
+                    kills[ply] = Arrays.copyOf(kills[ply], killCount * 2);
+                }
+                kills[ply][killCount++] = i;
+            }
+        }
+        int dodge = isAttacked(unit.getCoordinate()) ? safest(unit, reach) : Point.NONE;
+
+        int best = Integer.MAX_VALUE;
+        for (int i = 0; i < killCount; i++) {//the enemy is only disarmed, it stays on the board
+            Enemy enemy = state.enemyList.get(kills[ply][i]);
+            int attack = enemy.getAttack();
+            enemy.setAttack(Point.NONE);
+            int score = search(ply + 1, depth - 1, alpha, beta);
+            enemy.setAttack(attack);
+            if (outOfTime) {
+                return 0;
+            }
+            best = Math.min(best, score);
+            beta = Math.min(beta, score);
+            if (alpha >= beta) {
+                return best;
+            }
+        }
+
+        if (dodge != Point.NONE) {
+            int from = unit.getCoordinate();
+            moveUnit(unit, dodge);
+            int score = search(ply + 1, depth - 1, alpha, beta);
+            moveUnit(unit, from);
+            if (outOfTime) {
+                return 0;
+            }
+            best = Math.min(best, score);
+            beta = Math.min(beta, score);
+            if (alpha >= beta) {
+                return best;
+            }
+        }
+
+        int score = search(ply + 1, depth - 1, alpha, beta);//stays
+        if (outOfTime) {
+            return 0;
+        }
+        return Math.min(best, score);
+    }
+
+    /**
+     * generate
+     * Stores the moves of an enemy for a ply
+     *
+     * @param ply   the ply
+     * @param enemy the enemy
+     * @return the number of moves, at least 1
+     */
+    private int generate(int ply, Enemy enemy) {
+        int count = Math.max(1, engine.enemyOptions(enemy));
+        if (moves[ply] == null || moves[ply].length < count) {
+            moves[ply] = new long[Math.max(8, count)];
+        }
+        for (int i = 0; i < count; i++) {
+            moves[ply][i] = engine.getOption(i);
+        }
+        return count;
+    }
+
+    /**
+     * evaluate
+     * Scores the attacks planned by the enemies that have moved, adding up the damage on each tile first
+     * so a kill by two enemies together is counted
+     *
+     * @param ply the ply reached, which tells which enemies have moved
+     * @return the score, higher is better for the enemies
+     */
+    private int evaluate(int ply) {
+        int moved = first + Math.min(ply, enemyPlies);//enemies before this one moved earlier in the turn
+        pass++;
+        for (int i = 0; i < moved; i++) {
+            Enemy enemy = state.enemyList.get(i);
+            if (enemy.hasAttack()) {
+                int tile = state.index(Point.x(enemy.getAttack()), Point.y(enemy.getAttack()));
+                if (stamp[tile] != pass) {
+                    stamp[tile] = pass;
+                    damageAt[tile] = 0;
+                }
+                damageAt[tile] += enemy.attack();
+            }
+        }
+
+        int score = 0;
+        for (int i = 0; i < moved; i++) {
+            Enemy enemy = state.enemyList.get(i);
+            if (!enemy.hasAttack()) {
+                continue;
+            }
+            int attack = enemy.getAttack();
+            int tile = state.index(Point.x(attack), Point.y(attack));
+            if (stamp[tile] != pass) {//already counted
+                continue;
+            }
+            stamp[tile] = 0;
+            GameObject object = state.get(Point.x(attack), Point.y(attack));
+            if (!(object instanceof Damageable)) {
+                continue;
+            }
+            int health = ((Damageable) object).getHealth();
+            int dealt = Math.min(damageAt[tile], health);
+            if (object instanceof Vital) {
+                score += VITAL_DAMAGE * dealt + (dealt == health ? VITAL_KILL : 0);
+            } else if (object instanceof Player) {
+                score += PLAYER_DAMAGE * dealt + (dealt == health ? PLAYER_KILL : 0);
+            } else if (object instanceof Enemy) {
+                score += ENEMY_DAMAGE * dealt;
+            } else {
+                score += OBSTRUCTION_DAMAGE * dealt;
+            }
+        }
+        return score;
+    }
+
+    /**
+     * canHit
+     * Checks if a player unit can move somewhere it can attack an enemy from, with the rules of {@link GameEngine#playerAttack(Player, int, int)}
+     *
+     * @param unit  the player unit
+     * @param reach the tiles the unit can move to
+     * @param enemy the enemy
+     * @return true if the unit can attack the enemy this turn, false otherwise
+     */
+    private boolean canHit(Player unit, BitBoard reach, Enemy enemy) {
+        int x = enemy.getX();
+        int y = enemy.getY();
+        if (unit.getAttackRange()) {//same row or column
+            return reach.firstInRow(y, 0, state.size - 1) >= 0 || reach.firstInColumn(x, 0, state.size - 1) >= 0;
+        }
+        for (int dy = -1; dy <= 1; dy++) {//any of the eight tiles around
+            for (int dx = -1; dx <= 1; dx++) {
+                if (reach.get(x + dx, y + dy)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * isAttacked
+     * Checks if any enemy plans to attack a tile
+     *
+     * @param tile the packed coordinates of the tile
+     * @return true if the tile is attacked, false otherwise
+     */
+    private boolean isAttacked(int tile) {
+        for (int i = 0; i < state.enemyList.size(); i++) {
+            if (state.enemyList.get(i).getAttack() == tile) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * safest
+     * Finds the empty tile a player unit can move to that no enemy plans to attack and the fewest enemies could attack next turn
+     *
+     * @param unit  the player unit
+     * @param reach the tiles the unit can move to
+     * @return the packed coordinates of the tile, or {@link Point#NONE} if every tile is attacked
+     */
+    private int safest(Player unit, BitBoard reach) {
+        int radius = (int) Math.sqrt(unit.getMovementRangeSquared());
+        int best = Point.NONE;
+        int bestDamage = Integer.MAX_VALUE;
+        for (int y = Math.max(0, unit.getY() - radius); y <= Math.min(state.size - 1, unit.getY() + radius); y++) {
+            for (int x = Math.max(0, unit.getX() - radius); x <= Math.min(state.size - 1, unit.getX() + radius); x++) {
+                if (!reach.get(x, y) || !state.isEmpty(x, y) || isAttacked(Point.pack(x, y))) {
+                    continue;
+                }
+                int damage = state.threats.getDamage(x, y);
+                if (damage < bestDamage) {
+                    bestDamage = damage;
+                    best = Point.pack(x, y);
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * moveUnit
+     * Moves a player unit on the board without using up its move
+     *
+     * @param unit the player unit
+     * @param tile the packed coordinates of an empty tile
+     */
+    private void moveUnit(Player unit, int tile) {
+        state.set(unit.getX(), unit.getY(), null);
+        unit.move(Point.x(tile), Point.y(tile));
+        state.set(Point.x(tile), Point.y(tile), unit);
+    }
+}
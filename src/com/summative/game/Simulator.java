@@ -0,0 +1,328 @@
+package com.summative.game;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * [Simulator.java]
+ * Plays whole games without a screen and reports the same statistics as {@link EndScreen},
+ * so the stats of the units can be balanced without playing by hand.
+ *
+ * Usage: {@code Simulator <matches> [random|greedy] [--seed=n] [--threads=n] [--size=n] [--enemy=random|search] [--depth=n] [--nodes=n] [--budget=ms] [unit.stat=value ...]}
+ * For example {@code Simulator 1000000 greedy --seed=42 playerWarrior.damage=3 enemyDestructor.health=4}.
+ * The units are the {@link UnitStats} fields of {@link GameEngine}.
+ * The enemies play randomly unless {@code --enemy=search} is given, see {@link SearchEnemyPolicy}. Its search can be
+ * limited by a number of nodes, which keeps the results the same for a seed, or by a time budget, which does not.
+ *
+ * Games are played in parallel on a fork/join pool. The games are split in halves until they are
+ * small enough to play on one thread, and the random number generator is split along with them, so
+ * every game gets its own seed. The way the games are split does not depend on the number of threads,
+ * so the same seed always gives the same results.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ */
+public final class Simulator {
+
+    /**
+     * [Results]
+     * The totals of a number of games
+     */
+    static final class Results {
+        long matches;
+        long wins;
+        long killed;
+        long vitalsAlive;
+        long playersAlive;
+
+        /**
+         * add
+         * Adds the result of a finished game
+         *
+         * @param state the game
+         * @param won   whether the player won
+         */
+        void add(GameState state, boolean won) {
+            matches++;
+            if (won) {
+                wins++;
+            }
+            killed += state.killed;
+            vitalsAlive += state.vitalList.size();
+            playersAlive += state.playerList.size();
+        }
+
+        /**
+         * add
+         * Adds the totals of other games
+         *
+         * @param other the other results
+         */
+        void add(Results other) {
+            matches += other.matches;
+            wins += other.wins;
+            killed += other.killed;
+            vitalsAlive += other.vitalsAlive;
+            playersAlive += other.playersAlive;
+        }
+
+        /**
+         * toString
+         * Summarizes the results as averages per game
+         *
+         * @return the summary
+         */
+        @Override
+        public String toString() {
+            double n = Math.max(1, matches);
+            return String.format("Matches: %d%nWin Rate: %.4f%nAverage Enemies Killed: %.3f%nAverage Vitals Alive: %.3f%nAverage Active Player Units: %.3f",
+                    matches, wins / n, killed / n, vitalsAlive / n, playersAlive / n);
+        }
+    }
+
+    /**
+     * [MatchTask]
+     * Plays a number of games, splitting them between threads if there are enough of them
+     */
+    static final class MatchTask extends RecursiveTask<Results> {
+        private static final long serialVersionUID = 1L;
+        static final long THRESHOLD = 256;//games played by a task without splitting it
+
+        private final long matches;
+        private final SplittableRandom random;
+        private final String policy;
+        private final String[] args;
+
+        /**
+         * MatchTask Constructor
+         *
+         * @param matches the number of games to play
+         * @param random  the random number generator the seeds of the games come from
+         * @param policy  the name of the player policy
+         * @param args    the command line arguments with the stats of the units
+         */
+        MatchTask(long matches, SplittableRandom random, String policy, String[] args) {
+            this.matches = matches;
+            this.random = random;
+            this.policy = policy;
+            this.args = args;
+        }
+
+        /**
+         * compute
+         * Plays the games, or splits them in two tasks and adds up their results
+         *
+         * @return the results of the games
+         */
+        @Override
+        protected Results compute() {
+            if (matches <= THRESHOLD) {
+                Results results = new Results();
+                for (long i = 0; i < matches; i++) {
+                    Rng matchRandom = new Rng(random.nextLong());
+                    GameEngine engine = createEngine(args, matchRandom);
+                    boolean won = playMatch(engine, createPolicy(policy, matchRandom));
+                    results.add(engine.state, won);
+                }
+                return results;
+            }
+
+            MatchTask left = new MatchTask(matches / 2, random.split(), policy, args);
+            MatchTask right = new MatchTask(matches - matches / 2, random, policy, args);
+            left.fork();
+            Results results = right.compute();
+            results.add(left.join());
+            return results;
+        }
+    }
+
+    /**
+     * Simulator Constructor
+     * This class only has static methods.
+     */
+    private Simulator() {
+    }
+
+    /**
+     * main
+     * Runs the simulation described by the command line arguments and prints the results.
+     *
+     * @param args the number of games, the policy and the stats to change
+     */
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.out.println("Usage: Simulator <matches> [random|greedy] [--seed=n] [--threads=n] [--size=n] [--enemy=random|search] [--depth=n] [--nodes=n] [--budget=ms] [unit.stat=value ...]");
+            return;
+        }
+        long matches = Long.parseLong(args[0]);
+        String policy = args.length > 1 && !args[1].contains("=") ? args[1] : "random";
+        long seed = System.nanoTime();
+        int threads = Runtime.getRuntime().availableProcessors();
+        for (String arg : args) {
+            if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(arg.substring("--seed=".length()));
+            } else if (arg.startsWith("--threads=")) {
+                threads = Integer.parseInt(arg.substring("--threads=".length()));
+            }
+        }
+        createPolicy(policy, new Rng(seed));//fails before starting the threads if the policy does not exist
+        createEngine(args, new Rng(seed));
+
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        Results results = pool.invoke(new MatchTask(matches, new SplittableRandom(seed), policy, args));
+        pool.shutdown();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.println("Seed: " + seed);
+        System.out.println(results);
+        System.out.println(String.format("Time: %.2fs (%.0f matches/s)", seconds, matches / seconds));
+    }
+
+    /**
+     * createPolicy
+     * Creates a player policy from its name
+     *
+     * @param name   the name of the policy
+     * @param random the random number generator of the game
+     * @return the policy
+     * @throws IllegalArgumentException if there is no policy with that name
+     */
+    static PlayerPolicy createPolicy(String name, Rng random) {
+        switch (name) {
+            case "random":
+                return new RandomPlayerPolicy(random);
+            case "greedy":
+                return new GreedyPlayerPolicy(random);
+            default:
+                throw new IllegalArgumentException("Unknown policy: " + name);
+        }
+    }
+
+    /**
+     * createEngine
+     * Creates a new game with the board size, the enemy policy and the stats given on the command line
+     *
+     * @param args   the command line arguments. {@code --size=n} sets the size of the board,
+     *               {@code --enemy=search}, {@code --depth=n}, {@code --nodes=n} and {@code --budget=ms} choose the enemy policy,
+     *               and arguments of the form {@code unit.stat=value} change a stat
+     * @param random the random number generator of the game
+     * @return the engine of the new game
+     * @throws IllegalArgumentException if a unit, a stat or an enemy policy does not exist
+     */
+    static GameEngine createEngine(String[] args, Rng random) {
+        int size = 8;
+        String enemy = "random";
+        int depth = 4;
+        long nodes = 0;
+        long budget = 0;
+        for (String arg : args) {
+            if (arg.startsWith("--size=")) {
+                size = Integer.parseInt(arg.substring("--size=".length()));
+            } else if (arg.startsWith("--enemy=")) {
+                enemy = arg.substring("--enemy=".length());
+            } else if (arg.startsWith("--depth=")) {
+                depth = Integer.parseInt(arg.substring("--depth=".length()));
+            } else if (arg.startsWith("--nodes=")) {
+                nodes = Long.parseLong(arg.substring("--nodes=".length()));
+            } else if (arg.startsWith("--budget=")) {
+                budget = Long.parseLong(arg.substring("--budget=".length()));
+            }
+        }
+
+        GameEngine engine = new GameEngine(new GameState(size), random);
+        switch (enemy) {
+            case "random":
+                break;
+            case "search":
+                engine.enemyPolicy = new SearchEnemyPolicy(depth, nodes, budget);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown enemy policy: " + enemy);
+        }
+        for (String arg : args) {
+            int dot = arg.indexOf('.');
+            int equals = arg.indexOf('=');
+            if (arg.startsWith("--") || dot < 0 || equals < dot) {
+                continue;
+            }
+            stats(engine, arg.substring(0, dot)).set(arg.substring(dot + 1, equals), arg.substring(equals + 1));
+        }
+        return engine;
+    }
+
+    /**
+     * stats
+     * Gets the stats of a kind of unit by name
+     *
+     * @param engine the engine
+     * @param unit   the name of the unit
+     * @return the stats
+     * @throws IllegalArgumentException if there is no unit with that name
+     */
+    private static UnitStats stats(GameEngine engine, String unit) {
+        switch (unit) {
+            case "playerWarrior":
+                return engine.playerWarrior;
+            case "playerArtillery":
+                return engine.playerArtillery;
+            case "playerSupport":
+                return engine.playerSupport;
+            case "enemyWarrior":
+                return engine.enemyWarrior;
+            case "spawnedWarrior":
+                return engine.spawnedWarrior;
+            case "enemyArtillery":
+                return engine.enemyArtillery;
+            case "enemyDestructor":
+                return engine.enemyDestructor;
+            default:
+                throw new IllegalArgumentException("Unknown unit: " + unit);
+        }
+    }
+
+    /**
+     * playMatch
+     * Plays a whole game, in the same order as {@link GameScreen}: placement, then an enemy turn and
+     * a player turn every round until the player loses or survives every round.
+     *
+     * @param engine the engine of a new game
+     * @param player the policy that plays the player
+     * @return true if the player won, false otherwise
+     */
+    static boolean playMatch(GameEngine engine, PlayerPolicy player) {
+        GameState state = engine.state;
+        engine.setup();
+        while (!engine.isPlacementDone()) {
+            int tile = player.place(state);
+            if (tile == Point.NONE) {//no room for the rest of the units
+                return false;
+            }
+            engine.placePlayer(Point.x(tile), Point.y(tile));
+        }
+
+        boolean first = true;//there is nothing to attack or spawn before the first enemy turn
+        while (true) {
+            if (!first) {
+                engine.startEnemyTurn();
+            }
+            first = false;
+
+            if (state.isLost()) {
+                return false;
+            } else if (state.isWon()) {
+                return true;
+            }
+
+            for (int i = 0; i < state.enemyList.size(); i++) {
+                engine.enemyAttack(state.enemyList.get(i));
+            }
+            engine.endEnemyTurn();
+
+            player.playTurn(state, engine);
+            engine.endPlayerTurn();
+        }
+    }
+}
@@ -1,8 +1,5 @@
 package com.summative.game;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-
 /**
  * [SpawnTile.java]
  * Instance of a SpawnTile
@@ -16,7 +13,7 @@ import com.badlogic.gdx.graphics.Texture;
  */
 class SpawnTile extends Obstacle {
 
-    private final Enemy enemy;
+    private Enemy enemy;
 
     /**
      * SpawnTile
@@ -28,7 +25,20 @@ class SpawnTile extends Obstacle {
      * @param enemy the type of enemy to be spawned
      */
     SpawnTile(int x, int y, Enemy enemy) {
-        super(x, y, new Texture(Gdx.files.internal("SpawnTile.png")));
+        super(x, y, "SpawnTile");
+        this.enemy = enemy;
+    }
+
+    /**
+     * reset
+     * Moves a spawn tile that was taken out of a {@link Pool} to its new tile, with a new enemy
+     *
+     * @param x     the x coordinate of the object
+     * @param y     the y coordinate of the object
+     * @param enemy the type of enemy to be spawned
+     */
+    void reset(int x, int y, Enemy enemy) {
+        place(x, y);
         this.enemy = enemy;
     }
 
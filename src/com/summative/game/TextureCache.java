@@ -0,0 +1,111 @@
+package com.summative.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.util.HashMap;
+
+/**
+ * [TextureCache.java]
+ * A registry for the sprite atlas shared by the whole application.
+ * Every unit, tile and UI sprite is packed into one texture ({@value #ATLAS}), so the
+ * {@code SpriteBatch} never has to switch textures, and each sprite is looked up by name
+ * as a {@link TextureRegion} of that texture.
+ * Screens hold a reference to the atlas and release it when they are torn down;
+ * the atlas is disposed as soon as nothing references it anymore.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ */
+final class TextureCache {
+
+    static final String ATLAS = "sprites.atlas";
+
+    private static TextureAtlas atlas;
+    private static int references;
+    private static final HashMap<String, TextureRegion> regions = new HashMap<>();
+
+    /**
+     * TextureCache Constructor
+     * The registry is only used through its static methods.
+     */
+    private TextureCache() {
+    }
+
+    /**
+     * get
+     * Gets the region of a sprite, loading the atlas the first time a sprite is asked for.
+     * This does not hold a reference to the atlas.
+     *
+     * @param name the name of the sprite in the atlas
+     * @return the region of the sprite
+     */
+    static TextureRegion get(String name) {
+        TextureRegion region = regions.get(name);
+        if (region == null) {
+            region = load().findRegion(name);
+            if (region == null) {
+                throw new IllegalArgumentException("No sprite named " + name + " in " + ATLAS);
+            }
+            regions.put(name, region);
+        }
+        return region;
+    }
+
+    /**
+     * acquire
+     * Holds a reference to the atlas until {@link #release()} is called.
+     */
+    static void acquire() {
+        load();
+        references++;
+    }
+
+    /**
+     * release
+     * Releases a reference to the atlas. The atlas is disposed when it is no longer referenced.
+     */
+    static void release() {
+        if (--references <= 0) {
+            dispose();
+        }
+    }
+
+    /**
+     * isLoaded
+     * Checks if the atlas is currently loaded
+     *
+     * @return true if the atlas is loaded, false otherwise
+     */
+    static boolean isLoaded() {
+        return atlas != null;
+    }
+
+    /**
+     * dispose
+     * Disposes the atlas. This also runs when the application closes.
+     */
+    static void dispose() {
+        if (atlas != null) {
+            atlas.dispose();
+            atlas = null;
+        }
+        regions.clear();
+        references = 0;
+    }
+
+    /**
+     * load
+     * Loads the atlas if it is not loaded yet
+     *
+     * @return the atlas
+     */
+    private static TextureAtlas load() {
+        if (atlas == null) {
+            atlas = new TextureAtlas(Gdx.files.internal(ATLAS));
+        }
+        return atlas;
+    }
+}
@@ -0,0 +1,362 @@
+package com.summative.game;
+
+import java.util.Arrays;
+
+/**
+ * [ThreatMap.java]
+ * For every tile, the number of enemies that could attack it next turn and the total damage they would deal.
+ * An enemy threatens a tile if it can move somewhere it could attack the tile from: next to it for a melee
+ * enemy, on the same row or column for a ranged one, the same rules as {@link GameEngine#enemyAttack(Enemy)}.
+ *
+ * The map is kept up to date instead of being rebuilt. Each enemy remembers the tiles it added to the map.
+ * The tiles an enemy can move to only depend on the tiles inside the circle of its movement range,
+ * so when a tile changes, only the enemies whose circle holds the tile are marked. To find them without
+ * going over every enemy, the board is split into regions of 8 by 8 tiles, and each enemy is listed in
+ * the regions its circle overlaps until it is marked.
+ * Marked enemies take their tiles off the map and are flooded again the next time the map is read,
+ * so the cost of a change depends on the enemies it affects, not on the size of the board or the number of enemies.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ * @see GameState#set(int, int, GameObject)
+ */
+class ThreatMap {
+
+    private final GameState state;
+    private final EntityStore entities;
+    private final Pathfinder pathfinder;
+    private final BitBoard reach;
+
+    //Threat of every tile, see GameState#index(int, int)
+    private final int[] count;
+    private final int[] damage;
+
+    //Tiles an enemy adds are counted once, see add(int, int)
+    private final int[] stamp;
+    private int pass = 0;
+
+    //Enemies whose circle overlaps each region, see register(int)
+    private static final int REGION_SHIFT = 3;//regions of 8 by 8 tiles
+    private final int regionsPerRow;
+    private final int[][] regionIds;
+    private final int[] regionCount;
+    private final boolean[] rows;
+    private final boolean[] columns;
+
+    //What each enemy added to the map, indexed by id
+    private int[][] tiles = new int[16][];
+    private int[] tileCount = new int[16];
+    private int[] origin = new int[16];//tile of the enemy when it was flooded
+    private int[] rangeSquared = new int[16];
+    private int[] addedDamage = new int[16];
+    private boolean[] active = new boolean[16];//the enemy is in the game
+    private boolean[] marked = new boolean[16];//the tiles of the enemy are out of date
+    private boolean[] registered = new boolean[16];//the enemy is listed in the regions of its circle
+
+    private int[] dirty = new int[16];//ids of the marked enemies
+    private int dirtyCount = 0;
+
+    /**
+     * ThreatMap Constructor
+     * Creates a map with no enemies
+     *
+     * @param state the game
+     */
+    ThreatMap(GameState state) {
+        this.state = state;
+        entities = state.entities;
+        pathfinder = new Pathfinder(state);
+        reach = new BitBoard(state.size);
+        int size = state.size * state.size;
+        count = new int[size];
+        damage = new int[size];
+        stamp = new int[size];
+        rows = new boolean[state.size];
+        columns = new boolean[state.size];
+        regionsPerRow = (state.size + (1 << REGION_SHIFT) - 1) >> REGION_SHIFT;
+        regionIds = new int[regionsPerRow * regionsPerRow][];
+        regionCount = new int[regionsPerRow * regionsPerRow];
+    }
+
+    /**
+     * getCount
+     * Gets the number of enemies that could attack a tile next turn
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the number of enemies
+     */
+    int getCount(int x, int y) {
+        update();
+        return count[state.index(x, y)];
+    }
+
+    /**
+     * getDamage
+     * Gets the damage a tile would take if every enemy that could attack it did
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the total damage
+     */
+    int getDamage(int x, int y) {
+        update();
+        return damage[state.index(x, y)];
+    }
+
+    /**
+     * addEnemy
+     * Starts following an enemy that was added to the game
+     *
+     * @param enemy the enemy
+     */
+    void addEnemy(Enemy enemy) {
+        int id = enemy.id;
+        if (id >= active.length) {
+            grow(Math.max(id + 1, active.length * 2));
+        }
+        active[id] = true;
+        mark(id);
+    }
+
+    /**
+     * removeEnemy
+     * Takes the threat of an enemy that left the game off the map
+     *
+     * @param enemy the enemy
+     */
+    void removeEnemy(Enemy enemy) {
+        int id = enemy.id;
+        if (id >= active.length || !active[id]) {
+            return;
+        }
+        active[id] = false;
+        unregister(id);
+        subtract(id);
+    }
+
+    /**
+     * tileChanged
+     * Marks the enemies whose movement could be changed by a change to a tile, including an enemy that left it.
+     * Only the enemies listed in the region of the tile are checked.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     */
+    void tileChanged(int x, int y) {
+        int region = (y >> REGION_SHIFT) * regionsPerRow + (x >> REGION_SHIFT);
+        int[] ids = regionIds[region];
+        for (int i = regionCount[region] - 1; i >= 0; i--) {//backwards, as marking an enemy takes it off the list
+            int id = ids[i];
+            if (Distance.inRange(x, y, Point.x(origin[id]), Point.y(origin[id]), rangeSquared[id])) {
+                mark(id);
+            }
+        }
+    }
+
+    /**
+     * update
+     * Floods every marked enemy again and puts its new threat on the map
+     */
+    private void update() {
+        while (dirtyCount > 0) {
+            int id = dirty[--dirtyCount];
+            marked[id] = false;
+            subtract(id);
+            if (active[id]) {
+                flood(id);
+            }
+        }
+    }
+
+    /**
+     * mark
+     * Marks an enemy to be flooded again
+     *
+     * @param id the id of the enemy
+     */
+    private void mark(int id) {
+        if (marked[id]) {
+            return;
+        }
+        marked[id] = true;
+        unregister(id);
+        if (dirtyCount == dirty.length) {
+            dirty = Arrays.copyOf(dirty, dirtyCount * 2);
+        }
+        dirty[dirtyCount++] = id;
+    }
+
+    /**
+     * subtract
+     * Takes the tiles an enemy added off the map
+     *
+     * @param id the id of the enemy
+     */
+    private void subtract(int id) {
+        int[] list = tiles[id];
+        for (int i = 0; i < tileCount[id]; i++) {
+            count[list[i]]--;
+            damage[list[i]] -= addedDamage[id];
+        }
+        tileCount[id] = 0;
+    }
+
+    /**
+     * flood
+     * Finds the tiles an enemy can move to and adds the tiles it could attack from them
+     *
+     * @param id the id of the enemy
+     */
+    private void flood(int id) {
+        int x = Point.x(entities.coordinate[id]);
+        int y = Point.y(entities.coordinate[id]);
+        origin[id] = entities.coordinate[id];
+        rangeSquared[id] = entities.movementRangeSquared[id];
+        addedDamage[id] = entities.damage[id];
+        register(id);
+        pathfinder.flood(x, y, rangeSquared[id], reach);
+
+        pass++;
+        int radius = (int) Math.sqrt(rangeSquared[id]);
+        int minX = Math.max(0, x - radius);
+        int maxX = Math.min(state.size - 1, x + radius);
+        int minY = Math.max(0, y - radius);
+        int maxY = Math.min(state.size - 1, y + radius);
+        boolean ranged = (entities.flags[id] & EntityStore.RANGED) != 0;
+        for (int j = minY; j <= maxY; j++) {
+            for (int i = minX; i <= maxX; i++) {
+                if (!reach.get(i, j)) {
+                    continue;
+                }
+                if (ranged) {
+                    rows[j] = true;
+                    columns[i] = true;
+                } else {
+                    for (int direction = 0; direction < 4; direction++) {
+                        add(id, i + Pathfinder.DX[direction], j + Pathfinder.DY[direction]);
+                    }
+                }
+            }
+        }
+
+        if (ranged) {//every tile of the rows and columns the enemy can stand on
+            for (int j = minY; j <= maxY; j++) {
+                if (rows[j]) {
+                    rows[j] = false;
+                    for (int i = 0; i < state.size; i++) {
+                        add(id, i, j);
+                    }
+                }
+            }
+            for (int i = minX; i <= maxX; i++) {
+                if (columns[i]) {
+                    columns[i] = false;
+                    for (int j = 0; j < state.size; j++) {
+                        add(id, i, j);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * add
+     * Adds a tile to the threat of an enemy, unless it is off the board or was already added during this flood
+     *
+     * @param id the id of the enemy
+     * @param x  the x coordinate
+     * @param y  the y coordinate
+     */
+    private void add(int id, int x, int y) {
+        if (!state.inBounds(x, y)) {
+            return;
+        }
+        int tile = state.index(x, y);
+        if (stamp[tile] == pass) {
+            return;
+        }
+        stamp[tile] = pass;
+        count[tile]++;
+        damage[tile] += addedDamage[id];
+
+        int[] list = tiles[id];
+        if (list == null) {
+            list = tiles[id] = new int[16];
+        } else if (tileCount[id] == list.length) {
+            list = tiles[id] = Arrays.copyOf(list, list.length * 2);
+        }
+        list[tileCount[id]++] = tile;
+    }
+
+    /**
+     * register
+     * Lists an enemy in every region its circle overlaps
+     *
+     * @param id the id of the enemy
+     */
+    private void register(int id) {
+        registered[id] = true;
+        int radius = (int) Math.sqrt(rangeSquared[id]);
+        int x = Point.x(origin[id]);
+        int y = Point.y(origin[id]);
+        for (int ry = Math.max(0, y - radius) >> REGION_SHIFT; ry <= Math.min(state.size - 1, y + radius) >> REGION_SHIFT; ry++) {
+            for (int rx = Math.max(0, x - radius) >> REGION_SHIFT; rx <= Math.min(state.size - 1, x + radius) >> REGION_SHIFT; rx++) {
+                int region = ry * regionsPerRow + rx;
+                int[] ids = regionIds[region];
+                if (ids == null) {
+                    ids = regionIds[region] = new int[4];
+                } else if (regionCount[region] == ids.length) {
+                    ids = regionIds[region] = Arrays.copyOf(ids, ids.length * 2);
+                }
+                ids[regionCount[region]++] = id;
+            }
+        }
+    }
+
+    /**
+     * unregister
+     * Takes an enemy off the lists of the regions its circle overlaps, if it is on them
+     *
+     * @param id the id of the enemy
+     */
+    private void unregister(int id) {
+        if (!registered[id]) {
+            return;
+        }
+        registered[id] = false;
+        int radius = (int) Math.sqrt(rangeSquared[id]);
+        int x = Point.x(origin[id]);
+        int y = Point.y(origin[id]);
+        for (int ry = Math.max(0, y - radius) >> REGION_SHIFT; ry <= Math.min(state.size - 1, y + radius) >> REGION_SHIFT; ry++) {
+            for (int rx = Math.max(0, x - radius) >> REGION_SHIFT; rx <= Math.min(state.size - 1, x + radius) >> REGION_SHIFT; rx++) {
+                int region = ry * regionsPerRow + rx;
+                int[] ids = regionIds[region];
+                for (int i = 0; i < regionCount[region]; i++) {
+                    if (ids[i] == id) {//the order of a list does not matter
+                        ids[i] = ids[--regionCount[region]];
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * grow
+     * Makes room for more enemy ids
+     *
+     * @param capacity the new number of ids
+     */
+    private void grow(int capacity) {
+        tiles = Arrays.copyOf(tiles, capacity);
+        tileCount = Arrays.copyOf(tileCount, capacity);
+        origin = Arrays.copyOf(origin, capacity);
+        rangeSquared = Arrays.copyOf(rangeSquared, capacity);
+        addedDamage = Arrays.copyOf(addedDamage, capacity);
+        active = Arrays.copyOf(active, capacity);
+        marked = Arrays.copyOf(marked, capacity);
+        registered = Arrays.copyOf(registered, capacity);
+    }
+}
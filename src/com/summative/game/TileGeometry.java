@@ -0,0 +1,165 @@
+package com.summative.game;
+
+/**
+ * [TileGeometry.java]
+ * A cache of the isometric screen geometry of every tile on the board.
+ * The corners of each tile and the centre where its sprite is drawn are stored in flat float arrays,
+ * so the render loop can read them without converting coordinates or allocating anything.
+ * The geometry only depends on the origin of the board on screen, so it is only rebuilt when the window is resized.
+ * Large boards do not fit in the window, so the range of tiles that can be seen is also kept,
+ * and only those tiles are drawn.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ */
+class TileGeometry {
+
+    static final int VERTICES = 8;//4 corners, x and y each
+
+    private final int size;
+    private final int tileSize;
+    private final float[] vertices;
+    private final float[] centres;
+    private float originX, originY;
+    //visible tiles have firstVisibleRow(col) <= row <= lastVisibleRow(col), from row + col and col - row on screen
+    private int sumMin, sumMax, differenceMin, differenceMax;
+
+    /**
+     * TileGeometry Constructor
+     * Allocates the geometry of a square board. {@link #rebuild(float, float)} must be called before it is used.
+     *
+     * @param size     the number of tiles on each side of the board
+     * @param tileSize the size of a tile before the isometric projection
+     */
+    TileGeometry(int size, int tileSize) {
+        this.size = size;
+        this.tileSize = tileSize;
+        vertices = new float[size * size * VERTICES];
+        centres = new float[size * size * 2];
+    }
+
+    /**
+     * rebuild
+     * Recomputes the screen position of every tile.
+     *
+     * @param originX the screen x coordinate of the board origin
+     * @param originY the screen y coordinate of the board origin
+     */
+    void rebuild(float originX, float originY) {
+        this.originX = originX;
+        this.originY = originY;
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                int v = index(row, col) * VERTICES;
+                float x = row * tileSize;
+                float y = col * tileSize;
+                //corners in the same order as the outline: (x, y), (x + t, y), (x + t, y + t), (x, y + t)
+                vertices[v] = x + y + originX;
+                vertices[v + 1] = (y - x) / 2 + originY;
+                vertices[v + 2] = x + tileSize + y + originX;
+                vertices[v + 3] = (y - x - tileSize) / 2 + originY;
+                vertices[v + 4] = x + y + 2 * tileSize + originX;
+                vertices[v + 5] = (y - x) / 2 + originY;
+                vertices[v + 6] = x + y + tileSize + originX;
+                vertices[v + 7] = (y + tileSize - x) / 2 + originY;
+
+                int c = index(row, col) * 2;
+                centres[c] = x + y + tileSize + originX;
+                centres[c + 1] = (y - x) / 2 + originY;
+            }
+        }
+    }
+
+    /**
+     * cull
+     * Finds the tiles that can be seen in the window. This must be called after {@link #rebuild(float, float)}.
+     * The margins leave room for sprites and labels that stick out of their tile.
+     *
+     * @param width  the width of the window
+     * @param height the height of the window
+     */
+    void cull(int width, int height) {
+        //a tile's left corner is at (row + col) * tileSize + originX, and its centre at (col - row) * tileSize / 2 + originY
+        sumMin = (int) Math.ceil((-3f * tileSize - originX) / tileSize);
+        sumMax = (int) Math.floor((width + tileSize - originX) / tileSize);
+        differenceMin = (int) Math.ceil((-5f * tileSize - 2 * originY) / tileSize);
+        differenceMax = (int) Math.floor((2f * height + 5 * tileSize - 2 * originY) / tileSize);
+    }
+
+    /**
+     * firstVisibleRow
+     * Gets the first row of a column that can be seen in the window
+     *
+     * @param col the column
+     * @return the first visible row, greater than {@link #lastVisibleRow(int)} if none can be seen
+     */
+    int firstVisibleRow(int col) {
+        return Math.max(0, Math.max(sumMin - col, col - differenceMax));
+    }
+
+    /**
+     * lastVisibleRow
+     * Gets the last row of a column that can be seen in the window
+     *
+     * @param col the column
+     * @return the last visible row
+     */
+    int lastVisibleRow(int col) {
+        return Math.min(size - 1, Math.min(sumMax - col, col - differenceMin));
+    }
+
+    /**
+     * index
+     * Gets the index of a tile in the geometry arrays
+     *
+     * @param row the row of the tile on the board (y coordinate)
+     * @param col the column of the tile on the board (x coordinate)
+     * @return the index of the tile
+     */
+    int index(int row, int col) {
+        return row * size + col;
+    }
+
+    /**
+     * getSize
+     * Gets the number of tiles on each side of the board
+     *
+     * @return the size of the board
+     */
+    int getSize() {
+        return size;
+    }
+
+    /**
+     * getVertices
+     * Gets the corners of every tile. The corners of a tile start at {@code index * VERTICES}.
+     *
+     * @return the vertices of every tile
+     */
+    float[] getVertices() {
+        return vertices;
+    }
+
+    /**
+     * centreX
+     * Gets the screen x coordinate of the centre of a tile
+     *
+     * @param index the index of the tile
+     * @return the x coordinate
+     */
+    float centreX(int index) {
+        return centres[index * 2];
+    }
+
+    /**
+     * centreY
+     * Gets the screen y coordinate of the centre of a tile
+     *
+     * @param index the index of the tile
+     * @return the y coordinate
+     */
+    float centreY(int index) {
+        return centres[index * 2 + 1];
+    }
+}
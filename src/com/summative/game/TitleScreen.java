@@ -6,7 +6,7 @@ import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 
 /**
@@ -23,8 +23,8 @@ public class TitleScreen extends ScreenAdapter {
 
     MyGame game;
     boolean instructionScreen = false;
-    Texture title = new Texture(Gdx.files.internal("Title.png"));
-    Texture tutorial = new Texture(Gdx.files.internal("Tutorial.png"));
+    TextureRegion title = TextureCache.get("Title");
+    TextureRegion tutorial = TextureCache.get("Tutorial");
 
     float pButtonX = Gdx.graphics.getWidth() * .1f;
     float iButtonX = Gdx.graphics.getWidth() * .4f;
@@ -39,6 +39,7 @@ public class TitleScreen extends ScreenAdapter {
      */
     public TitleScreen(MyGame game) {
         this.game = game;
+        TextureCache.acquire();
     }
 
     /**
@@ -104,7 +105,7 @@ public class TitleScreen extends ScreenAdapter {
         game.shapeRenderer.end();
 
         game.batch.begin();
-        game.batch.draw(title, Gdx.graphics.getWidth() / 2f - 404, Gdx.graphics.getHeight() * 0.3f, title.getWidth() * 4, title.getHeight() * 4);
+        game.batch.draw(title, Gdx.graphics.getWidth() / 2f - 404, Gdx.graphics.getHeight() * 0.3f, title.getRegionWidth() * 4, title.getRegionHeight() * 4);
         game.batch.setColor(Color.WHITE);
         game.font.setColor(Color.WHITE);
         game.font.getData().setScale(4);
@@ -127,5 +128,15 @@ public class TitleScreen extends ScreenAdapter {
     @Override
     public void hide(){
         Gdx.input.setInputProcessor(null);
+        dispose();
+    }
+
+    /**
+     * dispose
+     * Releases the texture atlas held by this screen.
+     */
+    @Override
+    public void dispose() {
+        TextureCache.release();
     }
 }
@@ -0,0 +1,85 @@
+package com.summative.game;
+
+/**
+ * [UnitStats.java]
+ * The stats a unit is created with.
+ * {@link GameEngine} keeps one instance for each kind of unit, so the balance of the game can be changed,
+ * for example by the {@link Simulator}, without editing the code that creates the units.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ */
+class UnitStats {
+
+    int health;
+    double movementRange;
+    boolean attackRange;//true if the unit attacks from a distance
+    int damage;
+    int knockback;//only used by player units
+    int weight;//only used by enemy units
+
+    /**
+     * UnitStats Constructor
+     *
+     * @param health        the initial health value
+     * @param movementRange the range of movement
+     * @param attackRange   the attack range
+     * @param damage        the damage of an attack
+     * @param knockback     the number of tiles a target is pushed
+     * @param weight        the weight of an enemy when spawning enemies
+     */
+    UnitStats(int health, double movementRange, boolean attackRange, int damage, int knockback, int weight) {
+        this.health = health;
+        this.movementRange = movementRange;
+        this.attackRange = attackRange;
+        this.damage = damage;
+        this.knockback = knockback;
+        this.weight = weight;
+    }
+
+    /**
+     * set
+     * Changes one stat by name. Used to read stats from the command line.
+     *
+     * @param name  the name of the stat
+     * @param value the new value
+     * @throws IllegalArgumentException if there is no stat with that name
+     */
+    void set(String name, String value) {
+        switch (name) {
+            case "health":
+                health = Integer.parseInt(value);
+                break;
+            case "movementRange":
+                movementRange = Double.parseDouble(value);
+                break;
+            case "attackRange":
+                attackRange = Boolean.parseBoolean(value);
+                break;
+            case "damage":
+                damage = Integer.parseInt(value);
+                break;
+            case "knockback":
+                knockback = Integer.parseInt(value);
+                break;
+            case "weight":
+                weight = Integer.parseInt(value);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown stat: " + name);
+        }
+    }
+
+    /**
+     * toString
+     * Lists every stat
+     *
+     * @return the stats as text
+     */
+    @Override
+    public String toString() {
+        return "health=" + health + " movementRange=" + movementRange + " attackRange=" + attackRange
+                + " damage=" + damage + " knockback=" + knockback + " weight=" + weight;
+    }
+}
@@ -1,8 +1,5 @@
 package com.summative.game;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-
 /**
  * [Vital.java]
  * This class is an instance of a vital object.
@@ -25,7 +22,7 @@ public class Vital extends Obstacle implements Damageable {
      * @param health the initial health value
      */
     Vital(int x, int y, int health) {
-        super(x, y, new Texture(Gdx.files.internal("Vital.png")));
+        super(x, y, "Vital");
         this.health = health;
     }
 
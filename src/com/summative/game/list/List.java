@@ -1,10 +1,19 @@
 package com.summative.game.list;
 
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 /**
  * [List.java]
- * This is a dynamic linked list data structure.
+ * This is a dynamic array-backed list data structure.
+ * Items are stored in a growable array, so indexed access is constant time and
+ * adding to the end of the list is amortized constant time.
+ * <p>
+ * Removals can be deferred with {@link #deferRemovals()}: removed items are only marked,
+ * skipped by the iterator, and swept out in a single pass by {@link #flushRemovals()}.
+ * This allows items to be removed while the list is being iterated.
  *
  * @param <E> type
  * @author Ayden Gao
@@ -12,10 +21,31 @@ import java.util.Iterator;
  * @version 4.3 2021/01/25
  */
 public class List<E> implements Iterable<E> {
-    private Node<E> head;
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private Object[] items;
+    private Set<Object> pending;//items marked for removal while removals are deferred
 
     int size;
 
+    /**
+     * List Constructor
+     * Creates an empty list with the default capacity.
+     */
+    public List() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * List Constructor
+     * Creates an empty list that can hold a specified number of items before growing.
+     *
+     * @param capacity the initial capacity
+     */
+    public List(int capacity) {
+        items = new Object[Math.max(capacity, 1)];
+    }
+
     /**
      * add
      * Adds an item to the list
@@ -23,17 +53,10 @@ public class List<E> implements Iterable<E> {
      * @param item the item
      */
     public void add(E item) {
-        size++;
-        if (head == null) {
-            head = new Node<>(item);
-            return;
-        }
-
-        Node<E> tempNode = head;
-        while (tempNode.getNext() != null) {
-            tempNode = tempNode.getNext();
+        if (size == items.length) {
+            grow();
         }
-        tempNode.setNext(new Node<>(item));//, tempNode));
+        items[size++] = item;
     }
 
     /**
@@ -41,18 +64,14 @@ public class List<E> implements Iterable<E> {
      * Gets the item from a specified index
      *
      * @param index the index
-     * @return the item
+     * @return the item, or null if the index is out of bound
      */
+    @SuppressWarnings("unchecked")
     public E get(int index) {
         if (index >= size || index < 0) {
             return null;
         }
-
-        Node<E> tempNode = head;
-        for (int i = 0; i < index; i++) {
-            tempNode = tempNode.getNext();
-        }
-        return tempNode.getItem();
+        return (E) items[index];
     }
 
     /**
@@ -63,11 +82,8 @@ public class List<E> implements Iterable<E> {
      * @return -1 if the item is not in the list, otherwise the index of the item
      */
     public int indexOf(E item) {
-        Node<E> tempNode = head;
         for (int i = 0; i < size; i++) {
-            if (!tempNode.getItem().equals(item)) {
-                tempNode = tempNode.getNext();
-            } else {
+            if (items[i].equals(item)) {
                 return i;
             }
         }
@@ -84,18 +100,16 @@ public class List<E> implements Iterable<E> {
         if (index >= size || index < 0) {
             return;
         }
-
-        size--;
-        if (index == 0) {
-            head = head.getNext();
+        if (pending != null) {
+            pending.add(items[index]);
             return;
         }
 
-        Node<E> tempNode = head;
-        for (int i = 0; i < index - 1; i++) {
-            tempNode = tempNode.getNext();
+        size--;
+        if (index < size) {
+            System.arraycopy(items, index + 1, items, index, size - index);
         }
-        tempNode.setNext(tempNode.getNext().getNext());
+        items[size] = null;//lets the removed item be garbage collected
     }
 
     /**
@@ -103,13 +117,16 @@ public class List<E> implements Iterable<E> {
      * Removes an item from the list
      *
      * @param item the item
-     * @return true if the item is found and removed, false otherwise
+     * @return true if the item is found and removed, false otherwise, or if it is already marked for removal
      */
     public boolean remove(E item) {
         int index = indexOf(item);
         if (index == -1) {
             return false;
         }
+        if (pending != null) {
+            return pending.add(item);
+        }
 
         remove(index);
         return true;
@@ -120,13 +137,64 @@ public class List<E> implements Iterable<E> {
      * Clears the list
      */
     public void clear() {
-        head = null;
+        for (int i = 0; i < size; i++) {
+            items[i] = null;
+        }
         size = 0;
+        if (pending != null) {
+            pending.clear();
+        }
+    }
+
+    /**
+     * deferRemovals
+     * Starts deferring removals. Until {@link #flushRemovals()} is called, removed items
+     * stay in place but are marked, so indices and running iterators are unaffected.
+     * Marking an item at an index is constant time.
+     */
+    public void deferRemovals() {
+        if (pending == null) {
+            pending = new HashSet<>();
+        }
+    }
+
+    /**
+     * isRemoved
+     * Checks if an item has been marked for removal while removals are deferred
+     *
+     * @param item the item
+     * @return true if the item is waiting to be removed, false otherwise
+     */
+    public boolean isRemoved(E item) {
+        return pending != null && pending.contains(item);
+    }
+
+    /**
+     * flushRemovals
+     * Removes every marked item in one sweep of the backing array and stops deferring removals.
+     */
+    public void flushRemovals() {
+        if (pending == null) {
+            return;
+        }
+
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (!pending.contains(items[i])) {
+                items[kept++] = items[i];
+            }
+        }
+        for (int i = kept; i < size; i++) {
+            items[i] = null;
+        }
+        size = kept;
+        pending = null;
     }
 
     /**
      * size
-     * Gets the size of the list
+     * Gets the size of the list.
+     * Items marked for removal are counted until {@link #flushRemovals()} is called.
      *
      * @return the size
      */
@@ -135,7 +203,17 @@ public class List<E> implements Iterable<E> {
     }
 
     public boolean isEmpty() {
-        return (size == 0 || head == null);
+        return size == 0;
+    }
+
+    /**
+     * grow
+     * Doubles the capacity of the backing array
+     */
+    private void grow() {
+        Object[] larger = new Object[items.length * 2];
+        System.arraycopy(items, 0, larger, 0, size);
+        items = larger;
     }
 
     /**
@@ -152,10 +230,12 @@ public class List<E> implements Iterable<E> {
     /**
      * ListIterator subclass
      * This is a subclass used by {@link List#iterator()}
+     * It walks the backing array directly, skipping items marked for removal.
      */
     class ListIterator implements Iterator<E> {
 
         private int index = 0;
+        private int last = -1;
 
         /**
          * hasNext
@@ -165,6 +245,11 @@ public class List<E> implements Iterable<E> {
          */
         @Override
         public boolean hasNext() {
+            if (pending != null) {
+                while (index < size && pending.contains(items[index])) {
+                    index++;
+                }
+            }
             return index < size;
         }
 
@@ -175,67 +260,29 @@ public class List<E> implements Iterable<E> {
          * @return the next item
          */
         @Override
+        @SuppressWarnings("unchecked")
         public E next() {
-            return get(index++);
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = index;
+            return (E) items[index++];
         }
 
         /**
          * remove
-         * Must be overridden to build
+         * Removes the item last returned by {@link #next()}
          */
         @Override
-        public void remove(){}
-    }
-
-    /**
-     * Node subclass
-     * A Node is only used by {@code List} class, so it is an inner class.
-     * @param <T> the type
-     */
-    class Node<T> {
-
-        private T item;
-        private Node<T> next;
-
-        /**
-         * Node Constructor
-         * A constructor for a node of the list, only contains the item
-         *
-         * @param item the item
-         */
-        public Node(T item) {
-            this.item = item;
-            next = null;
-        }
-
-        /**
-         * getNext
-         * Gets the next Node
-         *
-         * @return next Node object
-         */
-        public Node<T> getNext() {
-            return next;
-        }
-
-        /**
-         * setNext
-         * Sets the next Node
-         *
-         * @param next the next Node object
-         */
-        public void setNext(Node<T> next) {
-            this.next = next;
-        }
-
-        /**
-         * getItem
-         * Gets the item from this node
-         *
-         * @return the item
-         */
-        public T getItem() {
-            return item;
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            List.this.remove(last);
+            if (pending == null) {
+                index = last;
+            }
+            last = -1;
         }
     }
-}
\ No newline at end of file
+}
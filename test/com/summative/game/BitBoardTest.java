@@ -0,0 +1,178 @@
+package com.summative.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * [BitBoardTest.java]
+ * Checks the word at a time scans of a bit board against checking one tile at a time,
+ * on boards whose rows fill part of a word, exactly one word, and more than one word.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ */
+public class BitBoardTest {
+
+    private static final int[] SIZES = {8, 63, 64, 65, 512};
+
+    /**
+     * rowScansMatchTileByTile
+     * Scans random stretches of rows, including stretches that start before or end after the board, and empty stretches
+     */
+    @Test
+    public void rowScansMatchTileByTile() {
+        for (int size : SIZES) {
+            Rng random = new Rng(size);
+            for (int density : new int[]{0, 2, 50, 98, 100}) {
+                BitBoard board = fill(size, density, random);
+                for (int i = 0; i < 300; i++) {
+                    int y = random.nextInt(size);
+                    int from = random.nextInt(size + 4) - 2;
+                    int to = random.nextInt(size + 4) - 2;
+                    String stretch = "size " + size + " row " + y + " from " + from + " to " + to;
+                    assertEquals(stretch, firstInRow(board, size, y, from, to, true), board.firstInRow(y, from, to));
+                    assertEquals(stretch, firstInRow(board, size, y, from, to, false), board.firstClearInRow(y, from, to));
+                }
+            }
+        }
+    }
+
+    /**
+     * columnScansMatchTileByTile
+     * Scans random stretches of columns, including stretches that start before or end after the board
+     */
+    @Test
+    public void columnScansMatchTileByTile() {
+        for (int size : SIZES) {
+            Rng random = new Rng(size + 1);
+            for (int density : new int[]{0, 2, 50, 98, 100}) {
+                BitBoard board = fill(size, density, random);
+                for (int i = 0; i < 100; i++) {
+                    int x = random.nextInt(size);
+                    int from = random.nextInt(size + 4) - 2;
+                    int to = random.nextInt(size + 4) - 2;
+                    String stretch = "size " + size + " column " + x + " from " + from + " to " + to;
+                    assertEquals(stretch, firstInColumn(board, size, x, from, to, true), board.firstInColumn(x, from, to));
+                    assertEquals(stretch, firstInColumn(board, size, x, from, to, false), board.firstClearInColumn(x, from, to));
+                }
+            }
+        }
+    }
+
+    /**
+     * edgesOfRows
+     * Sets the last tile of each row and checks that it does not show up in the next row, and the other way around
+     */
+    @Test
+    public void edgesOfRows() {
+        for (int size : SIZES) {
+            BitBoard board = new BitBoard(size);
+            for (int y = 0; y < size; y += 2) {
+                board.set(size - 1, y);
+            }
+            for (int y = 0; y < size; y++) {
+                assertEquals(y % 2 == 0, board.get(size - 1, y));
+                assertFalse(board.get(0, y));
+                assertEquals(y % 2 == 0 ? size - 1 : -1, board.firstInRow(y, 0, size - 1));
+            }
+            assertEquals((size + 1) / 2, board.count());
+            board.clear(size - 1, 0);
+            assertEquals((size + 1) / 2 - 1, board.count());
+            assertEquals(-1, board.firstInRow(0, 0, size - 1));
+        }
+    }
+
+    /**
+     * offBoardIsClear
+     * Checks that tiles off the board read as clear and are never found by a scan
+     */
+    @Test
+    public void offBoardIsClear() {
+        BitBoard board = new BitBoard(65);
+        for (int y = 0; y < 65; y++) {
+            for (int x = 0; x < 65; x++) {
+                board.set(x, y);
+            }
+        }
+        assertFalse(board.get(-1, 0));
+        assertFalse(board.get(65, 0));
+        assertFalse(board.get(0, -1));
+        assertFalse(board.get(0, 65));
+        assertEquals(-1, board.firstInRow(-1, 0, 64));
+        assertEquals(-1, board.firstInRow(65, 0, 64));
+        assertEquals(-1, board.firstInColumn(65, 0, 64));
+        assertEquals(-1, board.firstClearInRow(3, 0, 200));
+        assertEquals(-1, board.firstClearInColumn(3, -5, 200));
+        assertTrue(board.anyAdjacent(0, 0));
+        assertEquals(65 * 65, board.count());
+        board.clear();
+        assertEquals(0, board.count());
+    }
+
+    /**
+     * fill
+     * Creates a board with random bits set
+     *
+     * @param size    the number of tiles on each side
+     * @param density the chance of each bit being set, in percent
+     * @param random  the random number generator
+     * @return the board
+     */
+    private static BitBoard fill(int size, int density, Rng random) {
+        BitBoard board = new BitBoard(size);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                if (random.nextInt(100) < density) {
+                    board.set(x, y);
+                }
+            }
+        }
+        return board;
+    }
+
+    /**
+     * firstInRow
+     * Finds the first tile of a stretch of a row with a given bit, one tile at a time
+     *
+     * @param board the board
+     * @param size  the number of tiles on each side
+     * @param y     the row
+     * @param from  the first x coordinate of the stretch
+     * @param to    the last x coordinate of the stretch
+     * @param set   the bit to look for
+     * @return the x coordinate, or -1 if there is none
+     */
+    private static int firstInRow(BitBoard board, int size, int y, int from, int to, boolean set) {
+        for (int x = Math.max(0, from); x <= Math.min(size - 1, to); x++) {
+            if (board.get(x, y) == set) {
+                return x;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * firstInColumn
+     * Finds the first tile of a stretch of a column with a given bit, one tile at a time
+     *
+     * @param board the board
+     * @param size  the number of tiles on each side
+     * @param x     the column
+     * @param from  the first y coordinate of the stretch
+     * @param to    the last y coordinate of the stretch
+     * @param set   the bit to look for
+     * @return the y coordinate, or -1 if there is none
+     */
+    private static int firstInColumn(BitBoard board, int size, int x, int from, int to, boolean set) {
+        for (int y = Math.max(0, from); y <= Math.min(size - 1, to); y++) {
+            if (board.get(x, y) == set) {
+                return y;
+            }
+        }
+        return -1;
+    }
+}
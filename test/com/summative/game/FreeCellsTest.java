@@ -0,0 +1,94 @@
+package com.summative.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * [FreeCellsTest.java]
+ * Checks that the set of empty tiles agrees with a plain array of flags after random changes,
+ * and that random picks only ever land on empty tiles.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ */
+public class FreeCellsTest {
+
+    /**
+     * randomChangesStayConsistent
+     * Adds and removes random tiles, twice in a row at times, and compares the set with the flags after each change
+     */
+    @Test
+    public void randomChangesStayConsistent() {
+        int tiles = 97;
+        FreeCells cells = new FreeCells(tiles);
+        boolean[] empty = new boolean[tiles];
+        int count = tiles;
+        for (int i = 0; i < tiles; i++) {
+            empty[i] = true;
+        }
+
+        Rng random = new Rng(1);
+        for (int step = 0; step < 5000; step++) {
+            int tile = random.nextInt(tiles);
+            if (random.nextBoolean()) {
+                cells.add(tile);
+                if (!empty[tile]) {
+                    empty[tile] = true;
+                    count++;
+                }
+            } else {
+                cells.remove(tile);
+                if (empty[tile]) {
+                    empty[tile] = false;
+                    count--;
+                }
+            }
+
+            assertEquals(count, cells.size());
+            for (int i = 0; i < tiles; i++) {
+                assertEquals("tile " + i + " at step " + step, empty[i], cells.contains(i));
+            }
+        }
+    }
+
+    /**
+     * randomPicksEveryEmptyTileAndNothingElse
+     * Picks many random tiles from a small set, which must all be empty and cover every empty tile
+     */
+    @Test
+    public void randomPicksEveryEmptyTileAndNothingElse() {
+        int tiles = 16;
+        FreeCells cells = new FreeCells(tiles);
+        for (int tile = 0; tile < tiles; tile += 3) {
+            cells.remove(tile);
+        }
+
+        boolean[] picked = new boolean[tiles];
+        Rng random = new Rng(2);
+        for (int i = 0; i < 2000; i++) {
+            int tile = cells.random(random);
+            assertTrue("picked a taken tile " + tile, cells.contains(tile));
+            picked[tile] = true;
+        }
+        for (int tile = 0; tile < tiles; tile++) {
+            assertEquals("tile " + tile, cells.contains(tile), picked[tile]);
+        }
+    }
+
+    /**
+     * randomOnFullBoard
+     * Checks that a full board has nothing to pick
+     */
+    @Test
+    public void randomOnFullBoard() {
+        FreeCells cells = new FreeCells(4);
+        for (int tile = 0; tile < 4; tile++) {
+            cells.remove(tile);
+        }
+        assertEquals(0, cells.size());
+        assertEquals(-1, cells.random(new Rng(3)));
+    }
+}
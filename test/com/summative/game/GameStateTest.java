@@ -0,0 +1,69 @@
+package com.summative.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * [GameStateTest.java]
+ * Checks that the empty tiles and the bit boards of a state follow the board through random changes.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ */
+public class GameStateTest {
+
+    /**
+     * setKeepsEverythingInSync
+     * Puts objects on random tiles and takes them off again, on boards whose rows do and do not fill whole words
+     */
+    @Test
+    public void setKeepsEverythingInSync() {
+        for (int size : new int[]{1, 8, 65}) {
+            GameState state = new GameState(size);
+            Rng random = new Rng(size);
+            for (int step = 0; step < 3000; step++) {
+                int x = random.nextInt(size);
+                int y = random.nextInt(size);
+                state.set(x, y, random.nextInt(3) == 0 ? null : new KillTile(x, y));
+                if (step % 100 == 0) {
+                    check(state, random);
+                }
+            }
+            check(state, random);
+        }
+    }
+
+    /**
+     * check
+     * Compares the empty tiles and the bit boards with the objects on the board
+     *
+     * @param state  the state
+     * @param random the random number generator to pick empty tiles with
+     */
+    private static void check(GameState state, Rng random) {
+        int empty = 0;
+        for (int y = 0; y < state.size; y++) {
+            for (int x = 0; x < state.size; x++) {
+                GameObject object = state.get(x, y);
+                if (object == null) {
+                    empty++;
+                }
+                assertEquals(object == null, state.isEmpty(x, y));
+                assertEquals(object != null, state.occupied.get(x, y));
+                assertEquals(object instanceof KillTile, state.killTiles.get(x, y));
+            }
+        }
+        assertEquals(empty, state.countEmpty());
+        assertEquals(state.size * state.size - empty, state.occupied.count());
+        for (int i = 0; i < 50 && empty > 0; i++) {
+            int tile = state.randomEmpty(random);
+            assertTrue("picked a taken tile " + tile, state.isEmpty(state.indexX(tile), state.indexY(tile)));
+        }
+        if (empty == 0) {
+            assertEquals(-1, state.randomEmpty(random));
+        }
+    }
+}
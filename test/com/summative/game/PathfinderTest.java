@@ -0,0 +1,172 @@
+package com.summative.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * [PathfinderTest.java]
+ * Checks the searches of the pathfinder against a plain breadth first search on random boards.
+ * The same pathfinder is used for every search, so the search numbers that replace clearing its arrays are tested too.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ */
+public class PathfinderTest {
+
+    /**
+     * findPathIsShortest
+     * Checks that the path found ends next to the target and is as short as the shortest path found
+     * by a breadth first search, and that no path is found only when there is none
+     */
+    @Test
+    public void findPathIsShortest() {
+        for (int size : new int[]{6, 12, 40}) {
+            Rng random = new Rng(size);
+            GameState state = board(size, 20, random);
+            Pathfinder pathfinder = new Pathfinder(state);
+            for (int i = 0; i < 400; i++) {
+                int fromX = random.nextInt(size);
+                int fromY = random.nextInt(size);
+                int targetX = random.nextInt(size);
+                int targetY = random.nextInt(size);
+                if (fromX == targetX && fromY == targetY) {
+                    continue;
+                }
+                int[] steps = distances(state, fromX, fromY);
+                int shortest = Integer.MAX_VALUE;
+                for (int direction = 0; direction < 4; direction++) {
+                    int x = targetX + Pathfinder.DX[direction];
+                    int y = targetY + Pathfinder.DY[direction];
+                    if (state.inBounds(x, y) && steps[state.index(x, y)] >= 0) {
+                        shortest = Math.min(shortest, steps[state.index(x, y)]);
+                    }
+                }
+
+                String search = "size " + size + " from " + fromX + " " + fromY + " to " + targetX + " " + targetY;
+                int end = pathfinder.findPath(fromX, fromY, targetX, targetY);
+                if (shortest == Integer.MAX_VALUE) {
+                    assertEquals(search, -1, end);
+                    continue;
+                }
+                assertTrue(search + " found no path", end >= 0);
+                assertEquals(search, 1, Distance.manhattan(state.indexX(end), state.indexY(end), targetX, targetY));
+                assertEquals(search, shortest, steps[end]);
+            }
+        }
+    }
+
+    /**
+     * floodMatchesBreadthFirstSearch
+     * Checks the tiles found by a flood against a breadth first search that stays inside the circle of the range
+     */
+    @Test
+    public void floodMatchesBreadthFirstSearch() {
+        for (int size : new int[]{8, 65}) {
+            Rng random = new Rng(size + 1);
+            GameState state = board(size, 25, random);
+            Pathfinder pathfinder = new Pathfinder(state);
+            BitBoard reach = new BitBoard(size);
+            for (int i = 0; i < 200; i++) {
+                int x = random.nextInt(size);
+                int y = random.nextInt(size);
+                int rangeSquared = Distance.rangeSquared(1 + random.nextInt(5) + random.nextInt(2) * 0.5);
+                pathfinder.flood(x, y, rangeSquared, reach);
+
+                boolean[] expected = flood(state, x, y, rangeSquared);
+                for (int tile = 0; tile < size * size; tile++) {
+                    assertEquals("size " + size + " unit " + x + " " + y + " tile " + tile,
+                            expected[tile], reach.get(state.indexX(tile), state.indexY(tile)));
+                }
+            }
+        }
+    }
+
+    /**
+     * board
+     * Creates a board with random tiles blocked
+     *
+     * @param size    the number of tiles on each side
+     * @param density the chance of each tile being blocked, in percent
+     * @param random  the random number generator
+     * @return the board
+     */
+    private static GameState board(int size, int density, Rng random) {
+        GameState state = new GameState(size);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                if (random.nextInt(100) < density) {
+                    state.set(x, y, new KillTile(x, y));
+                }
+            }
+        }
+        return state;
+    }
+
+    /**
+     * distances
+     * Finds the number of steps from a tile to every tile through empty tiles
+     *
+     * @param state the board
+     * @param x     the x coordinate of the start, which may be taken
+     * @param y     the y coordinate of the start
+     * @return the steps to each tile, or -1 if it cannot be reached
+     */
+    private static int[] distances(GameState state, int x, int y) {
+        int[] steps = new int[state.size * state.size];
+        Arrays.fill(steps, -1);
+        int[] queue = new int[steps.length];
+        int head = 0;
+        int tail = 0;
+        steps[state.index(x, y)] = 0;
+        queue[tail++] = state.index(x, y);
+        while (head < tail) {
+            int tile = queue[head++];
+            for (int direction = 0; direction < 4; direction++) {
+                int nx = state.indexX(tile) + Pathfinder.DX[direction];
+                int ny = state.indexY(tile) + Pathfinder.DY[direction];
+                if (state.isEmpty(nx, ny) && steps[state.index(nx, ny)] < 0) {
+                    steps[state.index(nx, ny)] = steps[tile] + 1;
+                    queue[tail++] = state.index(nx, ny);
+                }
+            }
+        }
+        return steps;
+    }
+
+    /**
+     * flood
+     * Finds the tiles a unit can walk to without leaving the circle of its range
+     *
+     * @param state        the board
+     * @param x            the x coordinate of the unit
+     * @param y            the y coordinate of the unit
+     * @param rangeSquared the range, squared
+     * @return whether each tile can be reached
+     */
+    private static boolean[] flood(GameState state, int x, int y, int rangeSquared) {
+        boolean[] reached = new boolean[state.size * state.size];
+        int[] queue = new int[reached.length];
+        int head = 0;
+        int tail = 0;
+        reached[state.index(x, y)] = true;
+        queue[tail++] = state.index(x, y);
+        while (head < tail) {
+            int tile = queue[head++];
+            for (int direction = 0; direction < 4; direction++) {
+                int nx = state.indexX(tile) + Pathfinder.DX[direction];
+                int ny = state.indexY(tile) + Pathfinder.DY[direction];
+                if (state.isEmpty(nx, ny) && !reached[state.index(nx, ny)]
+                        && Distance.squared(nx, ny, x, y) <= rangeSquared) {
+                    reached[state.index(nx, ny)] = true;
+                    queue[tail++] = state.index(nx, ny);
+                }
+            }
+        }
+        return reached;
+    }
+}
@@ -0,0 +1,103 @@
+package com.summative.game;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * [RngTest.java]
+ * Checks the random number generator against values from the reference SplitMix64 and xoshiro256** code,
+ * so games played from a seed stay the same.
+ *
+ * @author Ayden Gao
+ * @author Eric Miao
+ * @version 4.3 2021/01/25
+ */
+public class RngTest {
+
+    /**
+     * nextLongMatchesReference
+     * Compares the first values of a few seeds with the reference code
+     */
+    @Test
+    public void nextLongMatchesReference() {
+        assertArrayEquals(new long[]{-7355399402456485196L, -4652746763540216534L, 1900383378846508768L, 7684712102626143532L}, first(0));
+        assertArrayEquals(new long[]{1546998764402558742L, 6990951692964543102L, -5902157311460992607L, -1389169964527427423L}, first(42));
+        assertArrayEquals(new long[]{-935278008730389822L, -2984799092062921764L, 8317729841091847865L, 7641945841512210337L}, first(-7));
+    }
+
+    /**
+     * nextIntMatchesReference
+     * Compares bounded values with the reference code followed by Lemire's multiply and shift
+     */
+    @Test
+    public void nextIntMatchesReference() {
+        Rng random = new Rng(42);
+        int[] bounds = {1, 2, 3, 6, 10, 100, 1000, Integer.MAX_VALUE};
+        int[] expected = {0, 0, 2, 5, 9, 76, 719, 1825379232};
+        for (int i = 0; i < bounds.length; i++) {
+            assertEquals("bound " + bounds[i], expected[i], random.nextInt(bounds[i]));
+        }
+    }
+
+    /**
+     * sameSeedSameValues
+     * Checks that two generators with the same seed give the same values and keep the seed
+     */
+    @Test
+    public void sameSeedSameValues() {
+        Rng a = new Rng(123);
+        Rng b = new Rng(123);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(a.nextInt(1 + i), b.nextInt(1 + i));
+        }
+        assertEquals(123, a.getSeed());
+    }
+
+    /**
+     * nextIntIsUniform
+     * Draws many values below a bound that does not divide 2^32 and checks that each comes up about as often
+     */
+    @Test
+    public void nextIntIsUniform() {
+        Rng random = new Rng(9);
+        int[] counts = new int[7];
+        for (int i = 0; i < 70000; i++) {
+            counts[random.nextInt(7)]++;
+        }
+        for (int value = 0; value < 7; value++) {
+            assertTrue("value " + value + " came up " + counts[value] + " times", Math.abs(counts[value] - 10000) < 500);
+        }
+    }
+
+    /**
+     * nextIntRejectsBadBounds
+     * Checks that a bound that is not positive is rejected
+     */
+    @Test
+    public void nextIntRejectsBadBounds() {
+        for (int bound : new int[]{0, -1, Integer.MIN_VALUE}) {
+            try {
+                new Rng(1).nextInt(bound);
+                fail("bound " + bound + " was accepted");
+            } catch (IllegalArgumentException e) {
+                //expected
+            }
+        }
+    }
+
+    /**
+     * first
+     * Gets the first four values of a seed
+     *
+     * @param seed the seed
+     * @return the values
+     */
+    private static long[] first(long seed) {
+        Rng random = new Rng(seed);
+        return new long[]{random.nextLong(), random.nextLong(), random.nextLong(), random.nextLong()};
+    }
+}